@@ -20,6 +20,7 @@ export class Player {
   private doubleJump: boolean;
   private spacePressed: boolean;
   private calories: number;
+  private lastProcessedInput: number = 0; // sequence number of the last input frame applied by the backend
   private _message = ref("")
 
   private _sprintData = reactive({
@@ -186,6 +187,18 @@ export class Player {
     return this._message;
   }
 
+  public getLastProcessedInput(): number {
+    return this.lastProcessedInput;
+  }
+
+  /**
+   * Remembers the last input frame the backend applied,
+   * the position sent along with it already contains all inputs up to this frame
+   */
+  public setLastProcessedInput(seq: number) {
+    this.lastProcessedInput = Math.max(this.lastProcessedInput, seq)
+  }
+
   public getIsJumping() {
     return this.isJumping;
   }
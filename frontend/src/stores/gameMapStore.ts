@@ -22,6 +22,10 @@ import type {IGameEndDTD} from "@/stores/GameEnd/IGameEndDTD";
 import {SoundManager} from "@/services/SoundManager";
 import {SoundType} from "@/services/SoundTypes";
 import type {IOtherPlayer} from './IOtherPlayer';
+import {decodeBinaryUpdate} from './messaging/BinaryUpdateDecoder';
+
+// receive the compact binary frames instead of JSON on the update destination
+const USE_BINARY_UPDATES = true
 
 /**
  * Defines the pinia store used for saving the map from
@@ -97,7 +101,10 @@ export const useGameMapStore = defineStore('gameMap', () => {
   function startGameMapLiveUpdate() {
 
     const DEST_UPDATES = `/topic/lobbies/${lobbydata.currentPlayer.joinedLobbyId}/update`
+    // user destination, the backend only sends it to the sessions of this player
+    const DEST_PLAYER_UPDATES = `/user/queue/lobbies/${lobbydata.currentPlayer.joinedLobbyId}/update`
     if (!stompclient.active) {
+      stompclient.connectHeaders = {playerId: lobbydata.currentPlayer.playerId}
 
       stompclient.onWebSocketError = (event) => {
         throw new Error('Websocket wit message: ' + event)
@@ -110,93 +117,18 @@ export const useGameMapStore = defineStore('gameMap', () => {
       stompclient.onConnect = (frameElement) => {
         console.log('Stompclient connected')
 
-        stompclient.subscribe(DEST_UPDATES, message => {
-          const content: Array<IMessageDTD> = JSON.parse(message.body)
-          for (const mess of content) {
-            switch (mess.event) {
-              case EventType.GameEnd:
-                const gameEndUpdate: IGameEndDTD = mess.message
-                endGame(gameEndUpdate, lobbydata.currentPlayer.joinedLobbyId!)
-                break;
-              case EventType.SnackManUpdate:
-                const mobUpdate: ISnackmanUpdateDTD = mess.message
-
-                //play sound for ghost and snackman
-                if (mobUpdate.isScared) {
-                  SoundManager.playSound(SoundType.GHOST_SCARES_SNACKMAN)
-                }
-
-                if (mobUpdate.playerId === lobbydata.currentPlayer.playerId) {
-                  if (player == undefined) {
-                    continue;
-                  }
-
-                  player.setCalories(mobUpdate.calories)
-
-                  player.sprintData.sprintTimeLeft = mobUpdate.sprintTimeLeft
-                  player.sprintData.isSprinting = mobUpdate.isSprinting
-                  player.sprintData.isCooldown = mobUpdate.isInCooldown
-
-                  if (mobUpdate.message != null) {
-                    player.message.value = mobUpdate.message
-                  }
-
-                  player.setPosition(mobUpdate.position);
-                } else {
-                  if (otherPlayers == undefined || otherPlayers.size == 0) {
-                    continue;
-                  }
-                  otherPlayers.get(mobUpdate.playerId)!.rotation.set(mobUpdate.rotation.x, mobUpdate.rotation.y, mobUpdate.rotation.z, mobUpdate.rotation.w)
-                  //TODO adjust player height
-                  otherPlayers.get(mobUpdate.playerId)!.targetPosition.set(mobUpdate.position.x, mobUpdate.position.y - 2, mobUpdate.position.z)
-                }
-                break;
-
-              case EventType.GhostUpdate:
-                const ghostUpdate: IGhostUpdateDTD = mess.message
-                if (ghostUpdate.playerId === lobbydata.currentPlayer.playerId) {
-                  if (player == undefined) {
-                    continue;
-                  }
-                  player.setPosition(ghostUpdate.position);
-                  break;
-                } else {
-                  if (otherPlayers == undefined || otherPlayers.size == 0) {
-                    continue;
-                  }
-                  otherPlayers.get(ghostUpdate.playerId)!.rotation.set(ghostUpdate.rotation.x, ghostUpdate.rotation.y, ghostUpdate.rotation.z, ghostUpdate.rotation.w)
-                  otherPlayers.get(ghostUpdate.playerId)!.targetPosition.set(ghostUpdate.position.x, ghostUpdate.position.y - 2, ghostUpdate.position.z)
-
-                }
-                break;
-              case EventType.SquareUpdate:
-                const squareUpdate: ISquareUpdateDTD = mess.message
-                if (squareUpdate.square.snack.snackType == SnackType.EMPTY) {
-                  const savedMeshId = mapData.gameMap.get(squareUpdate.square.id)!.snack.meshId
-                  removeMeshFromScene(scene, savedMeshId)
-                  mapData.gameMap.set(squareUpdate.square.id, squareUpdate.square)
-                } else {
-                  spawnSnack(squareUpdate)
-                }
-                break;
-              case EventType.ChickenUpdate:
-                const chickenUpdate: IChickenDTD = mess.message
-
-                updateChicken(chickenUpdate)
-                if (chickenUpdate.isScared) {
-                  SoundManager.playSound(SoundType.GHOST_SCARES_CHICKEN)
-                }
-                break;
-              case EventType.ScriptGhostUpdate:
-                const scriptGhostUpdate: IScriptGhostDTD = mess.message
-
-                updateScriptGhost(scriptGhostUpdate)
-                break;
-              default:
-                console.error(mess.message)
-            }
+        // updates of all players and the updates of the environment around the own player
+        for (const destination of [DEST_UPDATES, DEST_PLAYER_UPDATES]) {
+          if (USE_BINARY_UPDATES) {
+            stompclient.subscribe(destination + '/binary', message => {
+              applyUpdates(decodeBinaryUpdate(message.binaryBody))
+            })
+          } else {
+            stompclient.subscribe(destination, message => {
+              applyUpdates(JSON.parse(message.body))
+            })
           }
-        })
+        }
       }
 
       stompclient.onDisconnect = () => {
@@ -207,6 +139,99 @@ export const useGameMapStore = defineStore('gameMap', () => {
     }
   }
 
+  /**
+   * Applies the updates of one tick of the backend,
+   * no matter if they were received as JSON or binary frame.
+   */
+  function applyUpdates(content: Array<IMessageDTD>) {
+    for (const mess of content) {
+      switch (mess.event) {
+        case EventType.GameEnd:
+          const gameEndUpdate: IGameEndDTD = mess.message
+          endGame(gameEndUpdate, lobbydata.currentPlayer.joinedLobbyId!)
+          break;
+        case EventType.SnackManUpdate:
+          const mobUpdate: ISnackmanUpdateDTD = mess.message
+
+          //play sound for ghost and snackman
+          if (mobUpdate.isScared) {
+            SoundManager.playSound(SoundType.GHOST_SCARES_SNACKMAN)
+          }
+
+          if (mobUpdate.playerId === lobbydata.currentPlayer.playerId) {
+            if (player == undefined) {
+              continue;
+            }
+
+            player.setCalories(mobUpdate.calories)
+
+            player.sprintData.sprintTimeLeft = mobUpdate.sprintTimeLeft
+            player.sprintData.isSprinting = mobUpdate.isSprinting
+            player.sprintData.isCooldown = mobUpdate.isInCooldown
+
+            if (mobUpdate.message != null) {
+              player.message.value = mobUpdate.message
+            }
+
+            player.setLastProcessedInput(mobUpdate.lastProcessedInput)
+            player.setPosition(mobUpdate.position);
+          } else {
+            if (otherPlayers == undefined || otherPlayers.size == 0) {
+              continue;
+            }
+            otherPlayers.get(mobUpdate.playerId)!.rotation.set(mobUpdate.rotation.x, mobUpdate.rotation.y, mobUpdate.rotation.z, mobUpdate.rotation.w)
+            //TODO adjust player height
+            otherPlayers.get(mobUpdate.playerId)!.targetPosition.set(mobUpdate.position.x, mobUpdate.position.y - 2, mobUpdate.position.z)
+          }
+          break;
+
+        case EventType.GhostUpdate:
+          const ghostUpdate: IGhostUpdateDTD = mess.message
+          if (ghostUpdate.playerId === lobbydata.currentPlayer.playerId) {
+            if (player == undefined) {
+              continue;
+            }
+            player.setLastProcessedInput(ghostUpdate.lastProcessedInput)
+            player.setPosition(ghostUpdate.position);
+            break;
+          } else {
+            if (otherPlayers == undefined || otherPlayers.size == 0) {
+              continue;
+            }
+            otherPlayers.get(ghostUpdate.playerId)!.rotation.set(ghostUpdate.rotation.x, ghostUpdate.rotation.y, ghostUpdate.rotation.z, ghostUpdate.rotation.w)
+            otherPlayers.get(ghostUpdate.playerId)!.targetPosition.set(ghostUpdate.position.x, ghostUpdate.position.y - 2, ghostUpdate.position.z)
+
+          }
+          break;
+        case EventType.SquareUpdate:
+          const squareUpdate: ISquareUpdateDTD = mess.message
+          if (squareUpdate.square.snack.snackType == SnackType.EMPTY) {
+            const savedMeshId = mapData.gameMap.get(squareUpdate.square.id)!.snack.meshId
+            removeMeshFromScene(scene, savedMeshId)
+            mapData.gameMap.set(squareUpdate.square.id, squareUpdate.square)
+          } else {
+            spawnSnack(squareUpdate)
+          }
+          break;
+        case EventType.ChickenUpdate:
+          const chickenUpdate: IChickenDTD = mess.message
+
+          updateChicken(chickenUpdate)
+          if (chickenUpdate.isScared) {
+            SoundManager.playSound(SoundType.GHOST_SCARES_CHICKEN)
+          }
+          break;
+        case EventType.ScriptGhostUpdate:
+          const scriptGhostUpdate: IScriptGhostDTD = mess.message
+
+          updateScriptGhost(scriptGhostUpdate)
+          break;
+        default:
+          console.error(mess.message)
+      }
+    }
+  }
+
   /**
    * Handles the end of a game and navigates to the GameEnd view with relevant details.
    *
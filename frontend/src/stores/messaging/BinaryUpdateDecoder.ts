@@ -0,0 +1,159 @@
+import {EventType, type IMessageDTD} from "./IMessageDTD";
+
+/**
+ * Decodes the binary update frames sent on `/topic/lobbies/{lobbyId}/update/binary`
+ * into the same message objects the JSON destination delivers.
+ * Has to be kept in sync with BinaryUpdateEncoder in the backend,
+ * enums are transferred by their ordinal in the backend enum.
+ */
+const EVENTS = [EventType.SnackManUpdate, EventType.SquareUpdate, EventType.ChickenUpdate,
+  EventType.GhostUpdate, EventType.ScriptGhostUpdate, EventType.GameEnd]
+const MAP_OBJECT_TYPES = ['WALL', 'FLOOR']
+const SNACK_TYPES = ['CHERRY', 'STRAWBERRY', 'ORANGE', 'APPLE', 'EMPTY', 'EGG']
+const THICKNESSES = ['THIN', 'SLIGHTLY_THICK', 'MEDIUM', 'HEAVY', 'VERY_HEAVY']
+const ROLES = ['SNACKMAN', 'GHOST', 'UNDEFINED']
+const DIRECTIONS = [
+  'TWO_NORTH_TWO_WEST', 'TWO_NORTH_ONE_WEST', 'TWO_NORTH', 'TWO_NORTH_ONE_EAST', 'TWO_NORTH_TWO_EAST',
+  'ONE_NORTH_TWO_WEST', 'ONE_NORTH_ONE_WEST', 'ONE_NORTH', 'ONE_NORTH_ONE_EAST', 'ONE_NORTH_TWO_EAST',
+  'TWO_WEST', 'ONE_WEST', 'CHICKEN', 'ONE_EAST', 'TWO_EAST',
+  'ONE_SOUTH_TWO_WEST', 'ONE_SOUTH_ONE_WEST', 'ONE_SOUTH', 'ONE_SOUTH_ONE_EAST', 'ONE_SOUTH_TWO_EAST',
+  'TWO_SOUTH_TWO_WEST', 'TWO_SOUTH_ONE_WEST', 'TWO_SOUTH', 'TWO_SOUTH_ONE_EAST', 'TWO_SOUTH_TWO_EAST'
+]
+const SUPPORTED_VERSION = 2
+const NULL_STRING = 0xFFFF
+
+class FrameReader {
+  private offset = 0
+  private readonly view: DataView
+  private readonly decoder = new TextDecoder()
+
+  constructor(private readonly bytes: Uint8Array) {
+    this.view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength)
+  }
+
+  u8(): number {
+    return this.view.getUint8(this.offset++)
+  }
+
+  u16(): number {
+    const value = this.view.getUint16(this.offset, true)
+    this.offset += 2
+    return value
+  }
+
+  i32(): number {
+    const value = this.view.getInt32(this.offset, true)
+    this.offset += 4
+    return value
+  }
+
+  i64(): number {
+    const value = Number(this.view.getBigInt64(this.offset, true))
+    this.offset += 8
+    return value
+  }
+
+  f32(): number {
+    const value = this.view.getFloat32(this.offset, true)
+    this.offset += 4
+    return value
+  }
+
+  vector() {
+    return {x: this.f32(), y: this.f32(), z: this.f32()}
+  }
+
+  quaternion() {
+    return {x: this.f32(), y: this.f32(), z: this.f32(), w: this.f32()}
+  }
+
+  string(): string | null {
+    const length = this.u16()
+    if (length === NULL_STRING) {
+      return null
+    }
+    const value = this.decoder.decode(this.bytes.subarray(this.offset, this.offset + length))
+    this.offset += length
+    return value
+  }
+}
+
+export function decodeBinaryUpdate(bytes: Uint8Array): Array<IMessageDTD> {
+  const reader = new FrameReader(bytes)
+  const version = reader.u8()
+  if (version !== SUPPORTED_VERSION) {
+    throw new Error('Unsupported update frame version: ' + version)
+  }
+  const amount = reader.u16()
+  const messages: Array<IMessageDTD> = []
+  for (let i = 0; i < amount; i++) {
+    const event = EVENTS[reader.u8()]
+    switch (event) {
+      case EventType.SnackManUpdate: {
+        const position = reader.vector()
+        const rotation = reader.quaternion()
+        const radius = reader.f32()
+        const speed = reader.f32()
+        const playerId = reader.string()
+        const sprintTimeLeft = reader.i32()
+        const flags = reader.u8()
+        const calories = reader.i32()
+        const message = reader.string()
+        const lastProcessedInput = reader.i64()
+        messages.push({
+          event, message: {
+            position, rotation, radius, speed, playerId, sprintTimeLeft,
+            isSprinting: (flags & 1) !== 0, isInCooldown: (flags & 2) !== 0, isScared: (flags & 4) !== 0,
+            calories, message, lastProcessedInput
+          }
+        })
+        break
+      }
+      case EventType.GhostUpdate:
+        messages.push({
+          event, message: {
+            position: reader.vector(), rotation: reader.quaternion(),
+            radius: reader.f32(), speed: reader.f32(), playerId: reader.string(),
+            lastProcessedInput: reader.i64()
+          }
+        })
+        break
+      case EventType.SquareUpdate:
+        messages.push({
+          event, message: {
+            square: {
+              id: reader.i64(), indexX: reader.i32(), indexZ: reader.i32(),
+              type: MAP_OBJECT_TYPES[reader.u8()], snack: {snackType: SNACK_TYPES[reader.u8()]}
+            }
+          }
+        })
+        break
+      case EventType.ChickenUpdate:
+        messages.push({
+          event, message: {
+            id: reader.i64(), chickenPosX: reader.i32(), chickenPosZ: reader.i32(),
+            thickness: THICKNESSES[reader.u8()], lookingDirection: DIRECTIONS[reader.u8()], isScared: reader.u8() !== 0
+          }
+        })
+        break
+      case EventType.ScriptGhostUpdate:
+        messages.push({
+          event, message: {
+            id: reader.i64(), scriptGhostPosX: reader.i32(), scriptGhostPosZ: reader.i32(),
+            lookingDirection: DIRECTIONS[reader.u8()]
+          }
+        })
+        break
+      case EventType.GameEnd:
+        messages.push({
+          event, message: {
+            role: ROLES[reader.u8()], timePlayed: reader.i64(), kcalCollected: reader.i32(), lobbyId: reader.string()
+          }
+        })
+        break
+      default:
+        throw new Error('Unknown update event in binary frame')
+    }
+  }
+  return messages
+}
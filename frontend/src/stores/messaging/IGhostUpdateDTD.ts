@@ -5,5 +5,6 @@ export interface IGhostUpdateDTD {
   rotation: THREE.Quaternion,
   radius: number,
   speed: number,
-  playerId: string
+  playerId: string,
+  lastProcessedInput: number
 }
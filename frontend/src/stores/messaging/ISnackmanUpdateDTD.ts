@@ -11,5 +11,6 @@ export interface ISnackmanUpdateDTD {
   isSprinting: boolean,
   isInCooldown: boolean,
   message: string,
-  isScared: boolean
+  isScared: boolean,
+  lastProcessedInput: number
 }
@@ -5,6 +5,8 @@ public class GameConfig {
     //MAP
     public static final int SQUARE_SIZE = 2;
     public static final int SQUARE_HEIGHT = 5;
+    public static final double SQUARE_MOB_RADIUS = SQUARE_SIZE / 2.0; // chickens and script ghosts fill their square when they meet other mobs
+    public static final int MAZE_SIZE = 21; // rows and columns of a generated maze
 
     // SNACKMAN
     public static final int SNACKMAN_GROUND_LEVEL = 2;
@@ -35,6 +37,7 @@ public class GameConfig {
     //GHOST
     public static final String GHOST_SCRIPT_EASY = "GhostMovementSkript";
     public static final String GHOST_SCRIPT_HARD = "SmartGhostMovementSkript";
+    public static final boolean NATIVE_MOVEMENT_STRATEGIES = true; // the shipped scripts run in Java instead of Jython
     public static final double GHOST_RADIUS = 0.3;
     public static final int GHOST_SPEED = 7;
     public static final int GHOST_DAMAGE = 2000;
@@ -43,4 +46,22 @@ public class GameConfig {
 
     //GAME
     public static final long PLAYING_TIME = 300000; // 5 mins = 300.000 milisecs
+
+    //MESSAGE LOOP
+    public static final int TICK_RATE = 50; // ms between two ticks of a lobby
+    public static final int SIMULATION_STEP = TICK_RATE; // ms of game time covered by one simulation step
+    public static final int MAX_SIMULATION_STEPS_PER_TICK = 10; // a lobby that fell further behind skips the rest
+    public static final int INPUT_HOLD_STEPS = 4; // steps a player input is repeated while no new input arrives
+    public static final int MOB_AI_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2); // threads running the movement scripts of all lobbies
+    public static final int ENVIRONMENT_TICK_INTERVAL = 4; // every 4 ticks = 200 ms squares, chickens and script ghosts are sent
+    public static final int IDLE_TICK_INTERVAL = 10; // an idle lobby only ticks every 10 ticks = 500 ms
+    public static final long LOBBY_IDLE_TIMEOUT = 5000; // ms without player input after which a lobby is idle
+    public static final int SNAPSHOT_KEYFRAME_INTERVAL = 20; // every 20 ticks = 1 sec all mobs are sent
+    public static final double SNAPSHOT_POSITION_EPSILON = 0.001;
+    public static final double SNAPSHOT_ROTATION_EPSILON = 0.0001;
+    public static final int AOI_RADIUS = 8; // squares around a player with full rate environment updates
+    public static final int AOI_FAR_UPDATE_INTERVAL = 10; // environment ticks between updates outside of the radius
+    public static final int OUTBOUND_SESSION_QUEUE_LIMIT = 32; // queued messages after which snapshots of a session remove the state updates they supersede
+    public static final int OUTBOUND_SESSION_QUEUE_HARD_LIMIT = 1024; // queued messages after which a lagging session is closed
+    public static final int MAP_STREAM_ROWS_PER_CHUNK = 8; // rows of squares written before flushing the map download
 }
@@ -1,20 +1,33 @@
 package de.hsrm.mi.swt.snackman.configuration;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import de.hsrm.mi.swt.snackman.messaging.OutboundBackpressureDecoratorFactory;
+import de.hsrm.mi.swt.snackman.messaging.PlayerConnectInterceptor;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class StompWebMessageBrokerConfiguration implements WebSocketMessageBrokerConfigurer {
 
+    @Autowired
+    private OutboundBackpressureDecoratorFactory outboundBackpressureDecoratorFactory;
+
+    @Autowired
+    private PlayerConnectInterceptor playerConnectInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // Prefix für alle zugehörigen Destinations,
         // z.B. /topic/news, /topic/offers usw.
-        registry.enableSimpleBroker("/topic");
+        // /queue für die Destinations einzelner Spieler, erreichbar über /user/queue/...
+        registry.enableSimpleBroker("/topic", "/queue");
     }
 
     @Override
@@ -22,4 +35,16 @@ public class StompWebMessageBrokerConfiguration implements WebSocketMessageBroke
         registry.addEndpoint("/ws")
                 .setAllowedOrigins("*");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // binds every session to the player given when connecting
+        registration.interceptors(playerConnectInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // queues the frames of every session and drops outdated state updates for clients that can not keep up
+        registration.addDecoratorFactory(outboundBackpressureDecoratorFactory);
+    }
 }
\ No newline at end of file
@@ -13,8 +13,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,10 +26,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import de.hsrm.mi.swt.snackman.configuration.GameConfig;
 import de.hsrm.mi.swt.snackman.entities.lobby.Lobby;
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
 import de.hsrm.mi.swt.snackman.services.LobbyManagerService;
 
 /**
@@ -42,11 +49,58 @@ public class GameMapController {
     Logger log = LoggerFactory.getLogger(GameMapController.class);
     @Autowired
     private LobbyManagerService lobbyManagerService;
+    @Autowired
+    private ObjectMapper objectMapper;
 
+    /**
+     * Retrieves the game map of a lobby
+     *
+     * @param lobbyId the id of the lobby
+     * @param request the request, checked for an If-None-Match header with the ETag of the map the client already has
+     * @return the map or HTTP 304 (Not Modified) if the map did not change since one of the given ETags
+     */
     @GetMapping("/lobby/{lobbyId}/game-map")
-    public ResponseEntity<GameMapDTO> getGameMap(@PathVariable("lobbyId") String lobbyId) {
+    public ResponseEntity<GameMapDTO> getGameMap(@PathVariable("lobbyId") String lobbyId, WebRequest request) {
         log.debug("Get GameMap");
-        return ResponseEntity.ok(GameMapDTO.fromGameMap(lobbyManagerService.getGameMapByLobbyId(lobbyId)));
+        GameMap gameMap = lobbyManagerService.getGameMapByLobbyId(lobbyId);
+        String eTag = eTagOf(gameMap);
+        if (request.checkNotModified(eTag)) {
+            // the response is already set to 304 with the ETag
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(GameMapDTO.fromGameMap(gameMap));
+    }
+
+    /**
+     * Streams the game map in the same format as {@link #getGameMap}, writing the squares
+     * in chunks of rows instead of building the whole document in memory.
+     *
+     * @param lobbyId the id of the lobby
+     * @param request the request, checked for an If-None-Match header with the ETag of the map the client already has
+     * @return the map or HTTP 304 (Not Modified) if the map did not change since one of the given ETags
+     */
+    @GetMapping("/lobby/{lobbyId}/game-map/stream")
+    public ResponseEntity<StreamingResponseBody> streamGameMap(@PathVariable("lobbyId") String lobbyId, WebRequest request) {
+        log.debug("Stream GameMap");
+        GameMap gameMap = lobbyManagerService.getGameMapByLobbyId(lobbyId);
+        String eTag = eTagOf(gameMap);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        GameMapStreamWriter writer = new GameMapStreamWriter(objectMapper);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> writer.write(gameMap, outputStream));
+    }
+
+    /**
+     * The ETag is read before the map is written, so if the map changes meanwhile
+     * the client gets a newer map with an older ETag and simply loads it again next time
+     */
+    private String eTagOf(GameMap gameMap) {
+        return "\"" + gameMap.getId() + "-" + gameMap.getVersion() + "\"";
     }
 
     /**
@@ -4,35 +4,36 @@ import de.hsrm.mi.swt.snackman.controller.Chicken.ChickenDTO;
 import de.hsrm.mi.swt.snackman.messaging.MessageLoop.ScriptGhostDTO;
 import de.hsrm.mi.swt.snackman.controller.Square.SquareDTO;
 import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public record GameMapDTO(int DEFAULT_SQUARE_SIDE_LENGTH, int DEFAULT_WALL_HEIGHT, List<SquareDTO> gameMap,
                          List<ChickenDTO> chickens, List<ScriptGhostDTO> scriptGhosts) {
 
     public static GameMapDTO fromGameMap(GameMap gameMap) {
-        List<SquareDTO> squareDTOs = Stream.of(gameMap.getGameMapSquares())
-                .flatMap(Stream::of)
-                .map(SquareDTO::fromSquare)
-                .collect(Collectors.toList());
-
-        List<ChickenDTO> chickenDTOs = Stream.of(gameMap.getGameMapSquares())
-                .flatMap(Stream::of)
-                .flatMap(square -> square.getMobs().stream()
-                        .filter(mob -> mob instanceof Chicken)
-                        .map(chicken -> ChickenDTO.fromChicken((Chicken) chicken)))
-                .collect(Collectors.toList());
-
-        List<ScriptGhostDTO> scriptGhostDTOS = Stream.of(gameMap.getGameMapSquares())
-                .flatMap(Stream::of)
-                .flatMap(square -> square.getMobs().stream()
-                        .filter(mob -> mob instanceof ScriptGhost)
-                        .map(ghost -> ScriptGhostDTO.fromScriptGhost((ScriptGhost) ghost)))
-                .toList();
+        List<SquareDTO> squareDTOs = new ArrayList<>();
+        List<ChickenDTO> chickenDTOs = new ArrayList<>();
+        List<ScriptGhostDTO> scriptGhostDTOS = new ArrayList<>();
+
+        // one pass over all squares collects the squares and the mobs on them
+        for (Square[] row : gameMap.getGameMapSquares()) {
+            for (Square square : row) {
+                squareDTOs.add(SquareDTO.fromSquare(square));
+                for (Mob mob : square.getMobs()) {
+                    switch (mob) {
+                        case Chicken chicken -> chickenDTOs.add(ChickenDTO.fromChicken(chicken));
+                        case ScriptGhost ghost -> scriptGhostDTOS.add(ScriptGhostDTO.fromScriptGhost(ghost));
+                        default -> {
+                        }
+                    }
+                }
+            }
+        }
 
         return new GameMapDTO(gameMap.getDEFAULT_SQUARE_SIDE_LENGTH(), gameMap.getDEFAULT_WALL_HEIGHT(), squareDTOs, chickenDTOs, scriptGhostDTOS);
     }
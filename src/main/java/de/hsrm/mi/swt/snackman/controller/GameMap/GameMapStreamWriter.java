@@ -0,0 +1,72 @@
+package de.hsrm.mi.swt.snackman.controller.GameMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.controller.Chicken.ChickenDTO;
+import de.hsrm.mi.swt.snackman.controller.Square.SquareDTO;
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
+import de.hsrm.mi.swt.snackman.messaging.MessageLoop.ScriptGhostDTO;
+
+/**
+ * Writes a {@link GameMap} in the JSON format of {@link GameMapDTO} directly to a stream.
+ * The squares are written and flushed in chunks of {@link GameConfig#MAP_STREAM_ROWS_PER_CHUNK} rows,
+ * so the whole document never has to be held in memory.
+ */
+public class GameMapStreamWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public GameMapStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(GameMap gameMap, OutputStream outputStream) throws IOException {
+        List<ChickenDTO> chickens = new ArrayList<>();
+        List<ScriptGhostDTO> scriptGhosts = new ArrayList<>();
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("DEFAULT_SQUARE_SIDE_LENGTH", gameMap.getDEFAULT_SQUARE_SIDE_LENGTH());
+            generator.writeNumberField("DEFAULT_WALL_HEIGHT", gameMap.getDEFAULT_WALL_HEIGHT());
+
+            generator.writeArrayFieldStart("gameMap");
+            Square[][] squares = gameMap.getGameMapSquares();
+            for (int x = 0; x < squares.length; x++) {
+                for (Square square : squares[x]) {
+                    generator.writeObject(SquareDTO.fromSquare(square));
+                    // the mobs are collected in the same pass and written after the squares
+                    for (Mob mob : square.getMobs()) {
+                        switch (mob) {
+                            case Chicken chicken -> chickens.add(ChickenDTO.fromChicken(chicken));
+                            case ScriptGhost scriptGhost -> scriptGhosts.add(ScriptGhostDTO.fromScriptGhost(scriptGhost));
+                            default -> {
+                            }
+                        }
+                    }
+                }
+                if ((x + 1) % GameConfig.MAP_STREAM_ROWS_PER_CHUNK == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName("chickens");
+            generator.writeObject(chickens);
+            generator.writeFieldName("scriptGhosts");
+            generator.writeObject(scriptGhosts);
+            generator.writeEndObject();
+        }
+    }
+}
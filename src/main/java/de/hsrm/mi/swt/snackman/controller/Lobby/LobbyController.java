@@ -71,7 +71,7 @@ public class LobbyController {
 
         try {
             Lobby newLobby = lobbyManagerService.createLobby(name, client.get(), lobbyManagerService.getMessageLoop(), GameConfig.SCRIPT_GHOST_DIFFICULTY_MULTIPLAYER);
-            messagingTemplate.convertAndSend("/topic/lobbies", lobbyManagerService.getAllLobbies());
+            messagingTemplate.convertAndSend("/topic/lobbies", lobbyManagerService.getAllLobbies(), OutboundBackpressureDecoratorFactory.snapshot());
             logger.info("Creating lobby with name: {} and creatorUuid: {}", name, creatorUuid);
 
             return ResponseEntity.ok(newLobby);
@@ -0,0 +1,34 @@
+package de.hsrm.mi.swt.snackman.controller.Metrics;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import de.hsrm.mi.swt.snackman.messaging.OutboundBackpressureDecoratorFactory;
+import de.hsrm.mi.swt.snackman.messaging.SessionOutboundStatsDTO;
+
+/**
+ * REST controller for monitoring the server.
+ */
+@Controller
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private OutboundBackpressureDecoratorFactory outboundBackpressureDecoratorFactory;
+
+    /**
+     * Retrieves how many messages wait to be sent to each WebSocket session
+     * and how many state updates were dropped because the session lagged behind.
+     *
+     * @return a {@link ResponseEntity} containing the statistics, the most lagging session first
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionOutboundStatsDTO>> getSessionStats() {
+        return ResponseEntity.ok(outboundBackpressureDecoratorFactory.getSessionStats());
+    }
+}
@@ -0,0 +1,7 @@
+package de.hsrm.mi.swt.snackman.controller.PlayerMovement;
+
+import java.util.List;
+
+// several input frames of one player, sent as a single STOMP message
+public record PlayerInputBatchDTO(String playerId, List<PlayerInputDTO> inputs) {
+}
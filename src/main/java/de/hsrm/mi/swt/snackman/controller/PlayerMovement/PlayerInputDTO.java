@@ -0,0 +1,15 @@
+package de.hsrm.mi.swt.snackman.controller.PlayerMovement;
+
+/**
+ * One input frame of a player. The sequence number increases with every frame of the player,
+ * so the backend can apply the frames in order and tell the client which one it processed last.
+ */
+public record PlayerInputDTO(long seq, boolean forward, boolean backward, boolean left, boolean right, boolean jump,
+                             boolean doubleJump, double qX, double qY, double qZ, double qW, double delta,
+                             boolean sprinting) {
+
+    public static PlayerInputDTO fromPlayerToBackendDTO(PlayerToBackendDTO player) {
+        return new PlayerInputDTO(0, player.forward(), player.backward(), player.left(), player.right(), player.jump(),
+                player.doubleJump(), player.qX(), player.qY(), player.qZ(), player.qW(), player.delta(), player.sprinting());
+    }
+}
@@ -0,0 +1,118 @@
+package de.hsrm.mi.swt.snackman.entities.lobby;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+/**
+ * All mobs of a lobby, sorted by their type.
+ * The mobs are registered when they are spawned and removed when they despawn,
+ * so the snackman or the ghosts of a lobby are found without searching the squares of the map.
+ */
+public class EntityRegistry {
+
+    private final SortedMap<String, Mob> playerMobs = new TreeMap<>();
+    private final SortedMap<String, Mob> playerMobsView = Collections.unmodifiableSortedMap(playerMobs);
+    private volatile SnackMan snackMan;
+    private final List<Ghost> playerGhosts = new CopyOnWriteArrayList<>();
+    private final List<Ghost> playerGhostsView = Collections.unmodifiableList(playerGhosts);
+    private final List<ScriptGhost> scriptGhosts = new CopyOnWriteArrayList<>();
+    private final List<ScriptGhost> scriptGhostsView = Collections.unmodifiableList(scriptGhosts);
+    private final List<Chicken> chickens = new CopyOnWriteArrayList<>();
+    private final List<Chicken> chickensView = Collections.unmodifiableList(chickens);
+
+    /**
+     * Registers the mob controlled by a player, a mob the player had before is removed
+     *
+     * @param playerId the id of the player
+     * @param mob      a {@link SnackMan} or {@link Ghost}
+     */
+    public synchronized void addPlayerMob(String playerId, Mob mob) {
+        if (!(mob instanceof SnackMan) && !(mob instanceof Ghost)) {
+            throw new IllegalArgumentException("Unexpected player mob: " + mob);
+        }
+        removePlayerMob(playerId);
+        playerMobs.put(playerId, mob);
+        if (mob instanceof SnackMan newSnackMan) {
+            snackMan = newSnackMan;
+        } else {
+            playerGhosts.add((Ghost) mob);
+        }
+    }
+
+    /**
+     * @param playerId the id of the player
+     * @return the removed mob of the player or null if the player had none
+     */
+    public synchronized Mob removePlayerMob(String playerId) {
+        Mob mob = playerMobs.remove(playerId);
+        if (mob == null) {
+            return null;
+        }
+        if (mob == snackMan) {
+            snackMan = findSnackMan();
+        } else {
+            playerGhosts.remove(mob);
+        }
+        return mob;
+    }
+
+    private SnackMan findSnackMan() {
+        for (Mob mob : playerMobs.values()) {
+            if (mob instanceof SnackMan other) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    public void addChicken(Chicken chicken) {
+        chickens.add(chicken);
+    }
+
+    public boolean removeChicken(Chicken chicken) {
+        return chickens.remove(chicken);
+    }
+
+    public void addScriptGhost(ScriptGhost scriptGhost) {
+        scriptGhosts.add(scriptGhost);
+    }
+
+    public boolean removeScriptGhost(ScriptGhost scriptGhost) {
+        return scriptGhosts.remove(scriptGhost);
+    }
+
+    /**
+     * @return the mobs of the players sorted by player id, the map can not be changed
+     */
+    public SortedMap<String, Mob> getPlayerMobs() {
+        return playerMobsView;
+    }
+
+    /**
+     * @return the snackman of the lobby or null if no player is the snackman
+     */
+    public SnackMan getSnackMan() {
+        return snackMan;
+    }
+
+    public List<Ghost> getPlayerGhosts() {
+        return playerGhostsView;
+    }
+
+    public List<ScriptGhost> getScriptGhosts() {
+        return scriptGhostsView;
+    }
+
+    public List<Chicken> getChickens() {
+        return chickensView;
+    }
+}
@@ -1,9 +1,11 @@
 package de.hsrm.mi.swt.snackman.entities.lobby;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.hsrm.mi.swt.snackman.configuration.GameConfig;
 import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhostDifficulty;
@@ -25,19 +27,20 @@ public class Lobby {
     private boolean isChooseRole;
     private List<PlayerClient> members;
     private GameMap gameMap;
-    private SortedMap<String, Mob> clientMobMap;
-    private List<Chicken> chickens = new ArrayList<>();
-    private List<ScriptGhost> scriptGhosts = new ArrayList<>();
+    private final EntityRegistry entities = new EntityRegistry();
     private long timeSinceLastSnackSpawn;
     private Timer gameTimer;
     private long timePlayed = 0;
-    private boolean isGameFinished = false;
+    private volatile boolean isGameFinished = false;
     private ROLE winningRole;
     private long gameStartTime;
     private long endTime;
     private MessageLoop messageLoop;
     private boolean usedCustomMap;
     private ScriptGhostDifficulty scriptGhostDifficulty;
+    private volatile long lastInputTime;
+    // playerId -> sequence number of the last input frame applied to the mob of the player
+    private final Map<String, Long> lastProcessedInputs = new ConcurrentHashMap<>();
 
     public Lobby(String lobbyId, String name, PlayerClient adminClient, GameMap gameMap, MessageLoop messageLoop, ScriptGhostDifficulty scriptGhostDifficulty) {
         this.lobbyId = lobbyId;
@@ -48,7 +51,6 @@ public class Lobby {
         this.isChooseRole = false;
         this.members = new ArrayList<>();
         this.members.add(adminClient);
-        this.clientMobMap = new TreeMap<>();
         this.messageLoop = messageLoop;
         this.scriptGhostDifficulty = scriptGhostDifficulty;
         initTimer();
@@ -123,23 +125,31 @@ public class Lobby {
     }
 
     /**
-     * Retrieves the first {@link SnackMan} instance found on the game map.
-     * The method searches through all squares of the game map, checking each square's mobs for a {@link SnackMan}.
-     *
-     * @return the first {@link SnackMan} instance found, or null if no SnackMan is present
+     * @return the {@link SnackMan} of the lobby, or null if no SnackMan is present
      */
     public SnackMan getSnackman() {
-        return Arrays.stream(this.gameMap.getGameMapSquares())
-                .flatMap(Arrays::stream)
-                .flatMap(square -> square.getMobs().stream())
-                .filter(mob -> mob instanceof SnackMan)
-                .map(mob -> (SnackMan) mob)
-                .findFirst()
-                .orElse(null);
+        return entities.getSnackMan();
     }
 
+    /**
+     * @return the mobs of the players sorted by player id, new mobs are added with {@link #addPlayerMob(String, Mob)}
+     */
     public SortedMap<String, Mob> getClientMobMap() {
-        return clientMobMap;
+        return entities.getPlayerMobs();
+    }
+
+    /**
+     * Registers the mob a player controls in this lobby
+     *
+     * @param playerId the id of the player
+     * @param mob      the {@link SnackMan} or {@link Ghost} of the player
+     */
+    public void addPlayerMob(String playerId, Mob mob) {
+        entities.addPlayerMob(playerId, mob);
+    }
+
+    public EntityRegistry getEntities() {
+        return entities;
     }
 
     public String getName() {
@@ -161,6 +171,30 @@ public class Lobby {
     public void setGameStarted() {
         this.isGameStarted = true;
         setTimeSinceLastSnackSpawn(System.currentTimeMillis());
+        markInput();
+    }
+
+    /**
+     * Remembers that a player input arrived, lobbies without input are ticked less often
+     */
+    public void markInput() {
+        this.lastInputTime = System.currentTimeMillis();
+    }
+
+    public long getLastInputTime() {
+        return lastInputTime;
+    }
+
+    /**
+     * @param playerId the id of the player
+     * @return the sequence number of the last input frame of the player that was applied, 0 if there was none
+     */
+    public long getLastProcessedInput(String playerId) {
+        return lastProcessedInputs.getOrDefault(playerId, 0L);
+    }
+
+    public void setLastProcessedInput(String playerId, long seq) {
+        lastProcessedInputs.put(playerId, seq);
     }
 
     /**
@@ -176,6 +210,10 @@ public class Lobby {
         messageLoop.addGameEndToQueue(gameEnd, lobbyId);
     }
 
+    public boolean isGameFinished() {
+        return isGameFinished;
+    }
+
     public List<PlayerClient> getMembers() {
         return members;
     }
@@ -226,25 +264,25 @@ public class Lobby {
                 ", isChooseRole=" + isChooseRole +
                 ", members=" + members +
                 ", gameMap=" + gameMap +
-                ", clientMobMap=" + clientMobMap +
+                ", clientMobMap=" + entities.getPlayerMobs() +
                 ", timeSinceLastSnackSpawn=" + timeSinceLastSnackSpawn +
                 '}';
     }
 
     public void addChicken(Chicken chicken) {
-        this.chickens.add(chicken);
+        entities.addChicken(chicken);
     }
 
     public void addScriptGhost(ScriptGhost scriptGhost) {
-        this.scriptGhosts.add(scriptGhost);
+        entities.addScriptGhost(scriptGhost);
     }
 
     public List<Chicken> getChickens() {
-        return chickens;
+        return entities.getChickens();
     }
 
     public List<ScriptGhost> getScriptGhosts() {
-        return scriptGhosts;
+        return entities.getScriptGhosts();
     }
 
     public boolean getUsedCustomMap() {
@@ -1,26 +1,161 @@
 package de.hsrm.mi.swt.snackman.entities.map;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 import de.hsrm.mi.swt.snackman.configuration.GameConfig;
 import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mapObject.snack.SnackType;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
 
 /**
  * Represents a game map
  */
 public class GameMap {
+    private static long idCounter = 0;
+
     private final int DEFAULT_SQUARE_SIDE_LENGTH = GameConfig.SQUARE_SIZE;
 
     private final int DEFAULT_WALL_HEIGHT = GameConfig.SQUARE_HEIGHT;
 
+    private static final MapObjectType[] TILE_TYPES = MapObjectType.values();
+    private static final SnackType[] SNACK_TYPES = SnackType.values();
+    private static final byte NO_SNACK = -1;
+
     //Like a chessboard for better handling of collision
     private Square[][] gameMapSquares;
 
+    // types of the squares and their snacks by index x * depth + z, kept up to date by the squares,
+    // so collision checks and scans over the map read contiguous memory instead of the square objects
+    private final byte[] tileTypes;
+    private final byte[] snackTypes;
+    // what the chickens see on the squares, see PrimaryTypeCode
+    private final byte[] primaryTypes;
+
+    // returned for every index outside of the map
+    private final Square outside = new Square(MapObjectType.WALL, 0, 0);
+
+    private final long id;
+
+    // increased on every change of the map content, used to detect if a client has the current map
+    private final AtomicLong version = new AtomicLong();
+
+    // one bit per square (index x * depth + z), set when the square changed since the last drain
+    private final AtomicLongArray dirtySquares;
+
+    // increased when a square turns into a wall or back into a floor
+    private final AtomicLong layoutVersion = new AtomicLong();
+
+    // increased when a snackman enters or leaves a square
+    private final AtomicLong snackManVersion = new AtomicLong();
+
+    private final SnackManTargetLookup snackManTargetLookup = new SnackManTargetLookup(this);
+
+    // compiled for the current walls, replaced after a square changed its type
+    private NavigationGraph navigationGraph;
+
     /**
      * Constructs a new Map with the given map data
      *
      * @param map A square array representing the map
      */
     public GameMap(Square[][] map) {
+        this.id = generateId();
         this.gameMapSquares = map;
+        this.dirtySquares = new AtomicLongArray(Math.max(1, (map.length * depth() + Long.SIZE - 1) / Long.SIZE));
+        this.tileTypes = new byte[map.length * depth()];
+        this.snackTypes = new byte[map.length * depth()];
+        this.primaryTypes = new byte[map.length * depth()];
+        for (Square[] row : map) {
+            for (Square square : row) {
+                if (square != null) {
+                    square.setGameMap(this);
+                    updateTileType(square);
+                    updateSnackType(square);
+                    updatePrimaryType(square);
+                    for (Mob mob : square.getMobs()) {
+                        if (mob instanceof SnackMan) {
+                            snackManTargetLookup.moveSnackMan(null, square);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized static long generateId() {
+        return idCounter++;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return the current version of the map content, increases with every change
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Increases the version of the map without marking a square for an update,
+     * e.g. when a chicken or script ghost enters or leaves a square
+     */
+    public void increaseVersion() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return the version of the walls of the map, increases when a square changes its type
+     */
+    public long getLayoutVersion() {
+        return layoutVersion.get();
+    }
+
+    public void increaseLayoutVersion() {
+        layoutVersion.incrementAndGet();
+    }
+
+    /**
+     * @return the version of the snackman positions, increases when a snackman changes its square
+     */
+    public long getSnackManVersion() {
+        return snackManVersion.get();
+    }
+
+    /**
+     * Called by the squares when a snackman changes its square
+     *
+     * @param from the square the snackman left or null if it entered the map
+     * @param to   the square the snackman entered or null if it left the map
+     */
+    void moveSnackMan(Square from, Square to) {
+        snackManTargetLookup.moveSnackMan(from, to);
+        snackManVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns the navigation graph of the current walls.
+     * The graph is compiled again if a square changed its type since the last compilation.
+     *
+     * @return the navigation graph of the map
+     */
+    public synchronized NavigationGraph getNavigationGraph() {
+        if (navigationGraph == null || navigationGraph.getLayoutVersion() != layoutVersion.get()) {
+            navigationGraph = new NavigationGraph(this);
+        }
+        return navigationGraph;
+    }
+
+    /**
+     * @return the way to the nearest snackman, shared by all script ghosts on this map
+     */
+    public SnackManTargetLookup getSnackManTargetLookup() {
+        return snackManTargetLookup;
     }
 
     public int getDEFAULT_SQUARE_SIDE_LENGTH() {
@@ -36,11 +171,124 @@ public class GameMap {
     }
 
     public Square getSquareAtIndexXZ(int x, int z) {
-        if ((x < 0 || x >= gameMapSquares.length) || z < 0 || z >= gameMapSquares[0].length) {
-            return new Square(MapObjectType.WALL, 0, 0); //returns pseudo-Suare Wall, because its out of hameMap
+        if (!isInside(x, z)) {
+            return outside; //returns pseudo-Suare Wall, because its out of hameMap
         }
 
         return gameMapSquares[x][z];
     }
 
+    public boolean isInside(int x, int z) {
+        return x >= 0 && x < gameMapSquares.length && z >= 0 && z < depth();
+    }
+
+    /**
+     * @return the type of the square, {@link MapObjectType#WALL} outside of the map
+     */
+    public MapObjectType getTypeAtIndexXZ(int x, int z) {
+        if (!isInside(x, z)) {
+            return MapObjectType.WALL;
+        }
+        return TILE_TYPES[tileTypes[x * depth() + z]];
+    }
+
+    public boolean isWallAtIndexXZ(int x, int z) {
+        return getTypeAtIndexXZ(x, z) == MapObjectType.WALL;
+    }
+
+    /**
+     * @return the type of the snack on the square or null if the square has no snack or is outside of the map
+     */
+    public SnackType getSnackTypeAtIndexXZ(int x, int z) {
+        if (!isInside(x, z)) {
+            return null;
+        }
+        byte snackType = snackTypes[x * depth() + z];
+        return snackType == NO_SNACK ? null : SNACK_TYPES[snackType];
+    }
+
+    /**
+     * Called by a square of this map after its type changed
+     */
+    void updateTileType(Square square) {
+        tileTypes[square.getIndexX() * depth() + square.getIndexZ()] = (byte) square.getType().ordinal();
+    }
+
+    /**
+     * Called by a square of this map after its snack changed
+     */
+    void updateSnackType(Square square) {
+        byte snackType = square.getSnack() == null ? NO_SNACK : (byte) square.getSnack().getSnackType().ordinal();
+        snackTypes[square.getIndexX() * depth() + square.getIndexZ()] = snackType;
+    }
+
+    /**
+     * Called by a square of this map after its dominant type changed
+     */
+    void updatePrimaryType(Square square) {
+        primaryTypes[square.getIndexX() * depth() + square.getIndexZ()] = square.getPrimaryTypeCode();
+    }
+
+    /**
+     * Copies what the chickens see on the squares around a square into a window,
+     * row by row from north west to south east. Squares outside of the map are walls.
+     *
+     * @param centerX the x-index of the square in the middle
+     * @param centerZ the z-index of the square in the middle
+     * @param radius  the number of squares seen in every direction
+     * @param window  receives the {@link PrimaryTypeCode}s, holds at least (2 * radius + 1)² codes
+     */
+    public void copyPrimaryTypes(int centerX, int centerZ, int radius, byte[] window) {
+        int i = 0;
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                window[i++] = isInside(x, z) ? primaryTypes[x * depth() + z] : PrimaryTypeCode.WALL;
+            }
+        }
+    }
+
+    /**
+     * Marks a square as changed. Marking the same square several times
+     * before the next {@link #drainDirtySquares()} results in one update.
+     *
+     * @param square the changed square of this map
+     */
+    public void markDirty(Square square) {
+        version.incrementAndGet();
+        int bit = square.getIndexX() * depth() + square.getIndexZ();
+        long mask = 1L << (bit % Long.SIZE);
+        int word = bit / Long.SIZE;
+        long current = dirtySquares.get(word);
+        while ((current & mask) == 0 && !dirtySquares.compareAndSet(word, current, current | mask)) {
+            current = dirtySquares.get(word);
+        }
+    }
+
+    /**
+     * Returns all squares changed since the last call and clears their marks.
+     * A square marked while draining is either returned or kept for the next call.
+     *
+     * @return the changed squares, ordered by index
+     */
+    public List<Square> drainDirtySquares() {
+        List<Square> changed = new ArrayList<>();
+        int depth = depth();
+        for (int word = 0; word < dirtySquares.length(); word++) {
+            if (dirtySquares.get(word) == 0) {
+                continue;
+            }
+            long bits = dirtySquares.getAndSet(word, 0);
+            while (bits != 0) {
+                int bit = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                changed.add(gameMapSquares[bit / depth][bit % depth]);
+                bits &= bits - 1;
+            }
+        }
+        return changed;
+    }
+
+    private int depth() {
+        return gameMapSquares.length == 0 ? 0 : gameMapSquares[0].length;
+    }
+
 }
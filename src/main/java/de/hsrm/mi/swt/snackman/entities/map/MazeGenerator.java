@@ -0,0 +1,158 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Java implementation of Maze.py. Carves a maze with a recursive backtracker, places snacks
+ * in one of ten carved cells, spawns for ghosts and chickens, frees the center and puts
+ * the snackman into the middle. The maze uses the characters of the maze files,
+ * its first index is the row.
+ */
+public class MazeGenerator {
+
+    private static final char WALL = '#';
+    private static final char FLOOR = ' ';
+    private static final char SNACK = 'o';
+    private static final char GHOST = 'G';
+    private static final char CHICKEN = 'C';
+    private static final char SNACKMAN = 'S';
+
+    private static final int GHOST_SPAWN_ATTEMPTS = 5;
+    private static final int CHICKEN_SPAWN_ATTEMPTS = 10;
+    // the free center reaches at most this far from the middle
+    private static final int CENTER_THRESHOLD = 4;
+
+    // steps of two cells: east, south, west, north
+    private static final int[] STEP_X = {2, 0, -2, 0};
+    private static final int[] STEP_Y = {0, 2, 0, -2};
+
+    private final int width;
+    private final int height;
+    private final Random random;
+
+    /**
+     * @param width  the number of columns
+     * @param height the number of rows
+     * @param random decides the maze, the same seed creates the same maze
+     */
+    public MazeGenerator(int width, int height, Random random) {
+        this.width = width;
+        this.height = height;
+        this.random = random;
+    }
+
+    /**
+     * @return a new maze with height rows of width characters
+     */
+    public char[][] generate() {
+        char[][] maze = new char[height][width];
+        for (char[] row : maze) {
+            Arrays.fill(row, WALL);
+        }
+        carve(maze);
+        spawn(maze, GHOST, GHOST_SPAWN_ATTEMPTS);
+        spawn(maze, CHICKEN, CHICKEN_SPAWN_ATTEMPTS);
+        freeCenter(maze);
+        maze[maze.length / 2][maze.length / 2] = SNACKMAN;
+        return maze;
+    }
+
+    /**
+     * Recursive backtracker from the cell (1, 1), kept on an explicit stack
+     */
+    private void carve(char[][] maze) {
+        int[] stack = new int[width * height];
+        int size = 0;
+        stack[size++] = width + 1;
+        maze[1][1] = FLOOR;
+        int[] directions = {0, 1, 2, 3};
+
+        while (size > 0) {
+            int x = stack[size - 1] % width;
+            int y = stack[size - 1] / width;
+            shuffle(directions);
+
+            boolean carved = false;
+            for (int direction : directions) {
+                int nextX = x + STEP_X[direction];
+                int nextY = y + STEP_Y[direction];
+                if (1 <= nextX && nextX < width - 1 && 1 <= nextY && nextY < height - 1 && maze[nextY][nextX] == WALL) {
+                    // snacks spawn in ratio 1:10
+                    char cell = random.nextInt(10) == 0 ? SNACK : FLOOR;
+                    maze[nextY][nextX] = cell;
+                    maze[y + STEP_Y[direction] / 2][x + STEP_X[direction] / 2] = cell;
+                    stack[size++] = nextY * width + nextX;
+                    carved = true;
+                    break;
+                }
+            }
+            if (!carved) {
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Tries to place a mob on random cells. If a cell is taken, the mob is placed on a free cell next to it.
+     */
+    private void spawn(char[][] maze, char mob, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            int x = 1 + random.nextInt(maze.length - 2);
+            int y = 1 + random.nextInt(maze.length - 2);
+            if (isTaken(maze[x][y], mob)) {
+                int[] neighbour = findFreeNeighbour(maze, x, y);
+                if (neighbour == null) {
+                    continue;
+                }
+                x = neighbour[0];
+                y = neighbour[1];
+            }
+            maze[x][y] = mob;
+        }
+    }
+
+    /**
+     * Ghosts only need a cell without wall, chickens do not spawn on ghosts and the snackman either
+     */
+    private boolean isTaken(char cell, char mob) {
+        return cell == WALL || mob == CHICKEN && (cell == GHOST || cell == SNACKMAN);
+    }
+
+    /**
+     * @return the first cell next to the given one that is not a wall, in the same order as the script,
+     * or null if there is none
+     */
+    private int[] findFreeNeighbour(char[][] maze, int x, int y) {
+        int[][] neighbours = {{x + 1, y + 1}, {x, y + 1}, {x + 1, y}, {x - 1, y}, {x, y - 1}};
+        for (int[] neighbour : neighbours) {
+            if (maze[neighbour[0]][neighbour[1]] != WALL) {
+                return neighbour;
+            }
+        }
+        return null;
+    }
+
+    private void freeCenter(char[][] maze) {
+        double fromX = Math.max(width / 3.0, width / 2.0 - CENTER_THRESHOLD);
+        double toX = Math.min(2 * width / 3.0, width / 2.0 + CENTER_THRESHOLD);
+        double fromY = Math.max(height / 3.0, height / 2.0 - CENTER_THRESHOLD);
+        double toY = Math.min(2 * height / 3.0, height / 2.0 + CENTER_THRESHOLD);
+        for (int y = 0; y < maze.length; y++) {
+            for (int x = 0; x < maze[y].length; x++) {
+                if (fromX < x && x < toX && fromY < y && y < toY) {
+                    maze[y][x] = FLOOR;
+                }
+            }
+        }
+    }
+
+    private void shuffle(int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
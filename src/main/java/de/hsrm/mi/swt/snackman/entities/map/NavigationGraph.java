@@ -0,0 +1,254 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+
+/**
+ * Navigation graph of the floor squares of a map.
+ * Floor squares with more or less than two floor neighbours are junctions, all other floor squares
+ * belong to a corridor between two junctions. The shortest distances between the junctions are
+ * computed once per target junction and cached, so the walking distance between two squares
+ * is a lookup in the cached table plus the position of the squares in their corridors.
+ * The graph belongs to one wall layout, the {@link GameMap} compiles a new graph after a square changed its type.
+ */
+public class NavigationGraph {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // steps in the order of the direction indexes: north, east, south, west
+    private static final int[][] STEPS = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    private final long layoutVersion;
+    private final int width;
+    private final int depth;
+    private final boolean[] floor;
+
+    // per square (index x * depth + z): index of the junction or -1
+    private final int[] junctionOf;
+    // per square: index of the corridor or -1, and the position in the corridor starting at 1
+    private final int[] corridorOf;
+    private final int[] positionOf;
+
+    // per junction: the index of its square
+    private final List<Integer> junctionSquares = new ArrayList<>();
+    // per corridor: the junctions at both ends and the number of squares in between
+    private final List<int[]> corridors = new ArrayList<>();
+    // per junction: the edges to other junctions as {junction, length}
+    private final List<List<int[]>> edges = new ArrayList<>();
+    // per target junction: the distances of all junctions to it, computed on first use
+    private int[][] junctionDistances;
+
+    /**
+     * Compiles the graph of the current walls of the map
+     *
+     * @param gameMap the map to compile
+     */
+    public NavigationGraph(GameMap gameMap) {
+        this.layoutVersion = gameMap.getLayoutVersion();
+        Square[][] squares = gameMap.getGameMapSquares();
+        this.width = squares.length;
+        this.depth = width == 0 ? 0 : squares[0].length;
+        this.floor = new boolean[width * depth];
+        this.junctionOf = new int[width * depth];
+        this.corridorOf = new int[width * depth];
+        this.positionOf = new int[width * depth];
+        Arrays.fill(junctionOf, -1);
+        Arrays.fill(corridorOf, -1);
+
+        for (int x = 0; x < width; x++) {
+            for (int z = 0; z < depth; z++) {
+                floor[x * depth + z] = gameMap.getTypeAtIndexXZ(x, z) == MapObjectType.FLOOR;
+            }
+        }
+        for (int index = 0; index < floor.length; index++) {
+            if (floor[index] && countFloorNeighbours(index) != 2) {
+                addJunction(index);
+            }
+        }
+        for (int junction = 0; junction < edges.size(); junction++) {
+            traceCorridors(junction);
+        }
+        // corridors closed to a ring have no junction, one of their squares becomes one
+        for (int index = 0; index < floor.length; index++) {
+            if (floor[index] && junctionOf[index] < 0 && corridorOf[index] < 0) {
+                traceCorridors(addJunction(index));
+            }
+        }
+        this.junctionDistances = new int[edges.size()][];
+    }
+
+    /**
+     * @return the walking distance between the two squares or {@link #UNREACHABLE}
+     * if one of them is a wall or no path connects them
+     */
+    public int getDistance(int fromX, int fromZ, int toX, int toZ) {
+        if (!isFloor(fromX, fromZ) || !isFloor(toX, toZ)) {
+            return UNREACHABLE;
+        }
+        int from = fromX * depth + fromZ;
+        int to = toX * depth + toZ;
+        if (from == to) {
+            return 0;
+        }
+        long best = UNREACHABLE;
+        if (corridorOf[from] >= 0 && corridorOf[from] == corridorOf[to]) {
+            best = Math.abs(positionOf[from] - positionOf[to]);
+        }
+        for (int toExit = 0; toExit < exitCount(to); toExit++) {
+            int[] distances = distancesTo(exitJunction(to, toExit));
+            for (int fromExit = 0; fromExit < exitCount(from); fromExit++) {
+                int between = distances[exitJunction(from, fromExit)];
+                if (between != UNREACHABLE) {
+                    best = Math.min(best, (long) exitLength(from, fromExit) + between + exitLength(to, toExit));
+                }
+            }
+        }
+        return (int) best;
+    }
+
+    /**
+     * @return true if the square is inside of the map and was a floor when the graph was compiled
+     */
+    public boolean isFloor(int x, int z) {
+        return x >= 0 && x < width && z >= 0 && z < depth && floor[x * depth + z];
+    }
+
+    /**
+     * @return the version of the walls the graph was compiled for
+     */
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public int getJunctionCount() {
+        return edges.size();
+    }
+
+    public int getCorridorCount() {
+        return corridors.size();
+    }
+
+    private int addJunction(int index) {
+        junctionOf[index] = edges.size();
+        junctionSquares.add(index);
+        edges.add(new ArrayList<>());
+        return junctionOf[index];
+    }
+
+    /**
+     * Follows every corridor leaving the junction that was not followed from its other end yet
+     */
+    private void traceCorridors(int junction) {
+        int start = junctionSquares.get(junction);
+        for (int[] step : STEPS) {
+            int next = neighbour(start, step);
+            if (next < 0) {
+                continue;
+            }
+            if (junctionOf[next] >= 0) {
+                edges.get(junction).add(new int[]{junctionOf[next], 1});
+                continue;
+            }
+            if (corridorOf[next] >= 0) {
+                continue;
+            }
+            int corridor = corridors.size();
+            int previous = start;
+            int current = next;
+            int position = 1;
+            while (junctionOf[current] < 0) {
+                corridorOf[current] = corridor;
+                positionOf[current] = position++;
+                int following = -1;
+                for (int[] corridorStep : STEPS) {
+                    int candidate = neighbour(current, corridorStep);
+                    if (candidate >= 0 && candidate != previous) {
+                        following = candidate;
+                    }
+                }
+                previous = current;
+                current = following;
+            }
+            int end = junctionOf[current];
+            int length = position - 1;
+            corridors.add(new int[]{junction, end, length});
+            edges.get(junction).add(new int[]{end, length + 1});
+            edges.get(end).add(new int[]{junction, length + 1});
+        }
+    }
+
+    /**
+     * Computes the distances of all junctions to the target junction with Dijkstra's algorithm,
+     * the corridors are the weighted edges between the junctions
+     */
+    private synchronized int[] distancesTo(int target) {
+        if (junctionDistances[target] != null) {
+            return junctionDistances[target];
+        }
+        int[] distances = new int[edges.size()];
+        Arrays.fill(distances, UNREACHABLE);
+        distances[target] = 0;
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        queue.add(new int[]{target, 0});
+        while (!queue.isEmpty()) {
+            int[] entry = queue.poll();
+            if (entry[1] > distances[entry[0]]) {
+                continue;
+            }
+            for (int[] edge : edges.get(entry[0])) {
+                int distance = entry[1] + edge[1];
+                if (distance < distances[edge[0]]) {
+                    distances[edge[0]] = distance;
+                    queue.add(new int[]{edge[0], distance});
+                }
+            }
+        }
+        junctionDistances[target] = distances;
+        return distances;
+    }
+
+    /**
+     * A junction is its own exit, a corridor square has the junctions at both ends of its corridor
+     */
+    private int exitCount(int index) {
+        return junctionOf[index] >= 0 ? 1 : 2;
+    }
+
+    private int exitJunction(int index, int exit) {
+        if (junctionOf[index] >= 0) {
+            return junctionOf[index];
+        }
+        return corridors.get(corridorOf[index])[exit];
+    }
+
+    private int exitLength(int index, int exit) {
+        if (junctionOf[index] >= 0) {
+            return 0;
+        }
+        int[] corridor = corridors.get(corridorOf[index]);
+        return exit == 0 ? positionOf[index] : corridor[2] + 1 - positionOf[index];
+    }
+
+    /**
+     * @return the index of the floor square next to the square in the direction of the step or -1
+     */
+    private int neighbour(int index, int[] step) {
+        int x = index / depth + step[0];
+        int z = index % depth + step[1];
+        return isFloor(x, z) ? x * depth + z : -1;
+    }
+
+    private int countFloorNeighbours(int index) {
+        int count = 0;
+        for (int[] step : STEPS) {
+            if (neighbour(index, step) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
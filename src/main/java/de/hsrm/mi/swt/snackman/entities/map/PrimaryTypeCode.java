@@ -0,0 +1,37 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+/**
+ * Byte codes of what a chicken or script ghost sees on a square, see {@link Square#getPrimaryType()}.
+ * The squares keep their codes up to date when mobs enter or leave them and when their snack or type changes,
+ * so the movement scripts get their view without looking at the mobs of every square.
+ */
+public final class PrimaryTypeCode {
+
+    public static final byte WALL = 0;
+    public static final byte EMPTY = 1;
+    public static final byte SNACK = 2;
+    public static final byte GHOST = 3;
+    public static final byte SNACKMAN = 4;
+    public static final byte CHICKEN = 5;
+
+    // the letters the movement scripts expect, by code
+    private static final String[] CHICKEN_TYPES = {"W", "L", "S", "G", "SM", "C"};
+    private static final String[] GHOST_TYPES = {"W", "L", "S", "G", "M", "C"};
+
+    private PrimaryTypeCode() {
+    }
+
+    /**
+     * @return the letter of the code in the scripts of the chickens
+     */
+    public static String toChickenType(byte code) {
+        return CHICKEN_TYPES[code];
+    }
+
+    /**
+     * @return the letter of the code in the scripts of the script ghosts
+     */
+    public static String toGhostType(byte code) {
+        return GHOST_TYPES[code];
+    }
+}
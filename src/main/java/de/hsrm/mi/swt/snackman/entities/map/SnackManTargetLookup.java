@@ -0,0 +1,77 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Looks up the way from a square to the nearest snackman of a map.
+ * All hard script ghosts of a lobby share the lookup of their map to choose their next step.
+ * The squares tell the map when a snackman enters or leaves them, so the lookup always knows the target squares,
+ * the distances to them are looked up in the {@link NavigationGraph} of the map,
+ * which is only compiled again after a square turned into a wall or floor.
+ */
+public class SnackManTargetLookup {
+
+    public static final int UNREACHABLE = NavigationGraph.UNREACHABLE;
+
+    // steps in the order of the direction indexes: north, east, south, west
+    private static final int[][] STEPS = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    private final GameMap gameMap;
+    // one entry per snackman, a square with two snackmen is listed twice
+    private final List<Square> snackManSquares = new ArrayList<>();
+
+    SnackManTargetLookup(GameMap gameMap) {
+        this.gameMap = gameMap;
+    }
+
+    /**
+     * Moves a snackman between the target squares
+     *
+     * @param from the square the snackman left or null if it entered the map
+     * @param to   the square the snackman entered or null if it left the map
+     */
+    synchronized void moveSnackMan(Square from, Square to) {
+        if (from != null) {
+            snackManSquares.remove(from);
+        }
+        if (to != null) {
+            snackManSquares.add(to);
+        }
+    }
+
+    /**
+     * @return the number of steps from the square to the nearest snackman or {@link #UNREACHABLE}
+     */
+    public synchronized int getDistance(int x, int z) {
+        return getDistance(gameMap.getNavigationGraph(), x, z);
+    }
+
+    /**
+     * Chooses the first step of a shortest path from the square to the nearest snackman
+     *
+     * @return the index of the direction: 0 north, 1 east, 2 south, 3 west,
+     * or -1 if the square has a snackman or no snackman can be reached
+     */
+    public synchronized int chooseDirection(int x, int z) {
+        NavigationGraph graph = gameMap.getNavigationGraph();
+        int distance = getDistance(graph, x, z);
+        if (distance == 0 || distance == UNREACHABLE) {
+            return -1;
+        }
+        for (int direction = 0; direction < STEPS.length; direction++) {
+            if (getDistance(graph, x + STEPS[direction][0], z + STEPS[direction][1]) == distance - 1) {
+                return direction;
+            }
+        }
+        return -1;
+    }
+
+    private int getDistance(NavigationGraph graph, int x, int z) {
+        int distance = UNREACHABLE;
+        for (Square square : snackManSquares) {
+            distance = Math.min(distance, graph.getDistance(x, z, square.getIndexX(), square.getIndexZ()));
+        }
+        return distance;
+    }
+}
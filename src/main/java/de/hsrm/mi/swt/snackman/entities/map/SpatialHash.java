@@ -0,0 +1,101 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid of cells over world positions to find circles overlapping a given circle.
+ * Items are stored in the cell of their center, a query only looks at the cells its circle
+ * and the largest stored circle can reach, then tests the distance of the centers.
+ * The cells are kept between {@link #clear()} calls, so refilling the hash every step reuses them.
+ *
+ * @param <T> the type of the stored items
+ */
+public class SpatialHash<T> {
+
+    private final double cellSize;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private double largestRadius = 0;
+    private int size = 0;
+
+    /**
+     * @param cellSize the side length of a cell in world units
+     */
+    public SpatialHash(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Removes all items
+     */
+    public void clear() {
+        for (List<Entry<T>> cell : cells.values()) {
+            cell.clear();
+        }
+        largestRadius = 0;
+        size = 0;
+    }
+
+    /**
+     * Stores an item as a circle
+     *
+     * @param item   the item
+     * @param x      the x-position of the center
+     * @param z      the z-position of the center
+     * @param radius the radius of the circle
+     */
+    public void insert(T item, double x, double z, double radius) {
+        cells.computeIfAbsent(key(cell(x), cell(z)), k -> new ArrayList<>()).add(new Entry<>(item, x, z, radius));
+        largestRadius = Math.max(largestRadius, radius);
+        size++;
+    }
+
+    /**
+     * @param x      the x-position of the center
+     * @param z      the z-position of the center
+     * @param radius the radius of the circle
+     * @return all stored items whose circle overlaps the given circle
+     */
+    public List<T> findOverlapping(double x, double z, double radius) {
+        List<T> found = new ArrayList<>();
+        if (size == 0) {
+            return found;
+        }
+        double reach = radius + largestRadius;
+        for (int cellX = cell(x - reach); cellX <= cell(x + reach); cellX++) {
+            for (int cellZ = cell(z - reach); cellZ <= cell(z + reach); cellZ++) {
+                List<Entry<T>> cell = cells.get(key(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry<T> entry : cell) {
+                    double dx = entry.x() - x;
+                    double dz = entry.z() - z;
+                    double distance = entry.radius() + radius;
+                    // circles that only touch do not overlap
+                    if (dx * dx + dz * dz < distance * distance) {
+                        found.add(entry.item());
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xffffffffL);
+    }
+
+    private record Entry<T>(T item, double x, double z, double radius) {
+    }
+}
@@ -11,10 +11,9 @@ import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Class that represents a Square. A Square is part of the game map. Multiple squares representing a game map.
@@ -22,8 +21,7 @@ import java.util.List;
 public class Square {
     //It's static because the idCounter is the same for all Squares.
     private static long idCounter = 0;
-    private final Logger log = LoggerFactory.getLogger(Square.class);
-    private final PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this);
+    private static final Logger log = LoggerFactory.getLogger(Square.class);
     private long id;
 
     private int indexX, indexZ;
@@ -32,34 +30,44 @@ public class Square {
 
     private Snack snack;
 
-    private List<Mob> mobs = new ArrayList<Mob>();
+    // written by the threads moving mobs, read without locking: iterating works on a snapshot of the list
+    private final List<Mob> mobs = new CopyOnWriteArrayList<>();
+    private final List<Mob> mobsView = Collections.unmodifiableList(mobs);
 
     private Spawnpoint spawnpoint;
 
+    // what chickens and script ghosts see on this square, updated whenever mobs, snack or type change
+    private volatile byte primaryType;
+    private volatile byte primaryTypeForGhost;
+
+    // map this square belongs to, notified when the square changes
+    private GameMap gameMap;
+
     public Square(int indexX, int indexZ) {
         id = generateId();
         type = MapObjectType.FLOOR;
         this.indexX = indexX;
         this.indexZ = indexZ;
         this.snack = new Snack(SnackType.EMPTY);
+        updatePrimaryTypes();
     }
 
     public Square(int indexX, int indexZ, Spawnpoint spawnpoint) {
         this(indexX, indexZ);
         this.spawnpoint = spawnpoint;
-        this.snack = new Snack(SnackType.EMPTY);
     }
 
     public Square(MapObjectType type, int indexX, int indexZ) {
         this(indexX, indexZ);
         this.type = type;
-        this.snack = new Snack(SnackType.EMPTY);
+        updatePrimaryTypes();
     }
 
     public Square(Snack snack, int indexX, int indexZ) {
         this(indexX, indexZ);
         this.snack = snack;
         type = MapObjectType.FLOOR;
+        updatePrimaryTypes();
     }
 
     /**
@@ -72,13 +80,13 @@ public class Square {
     }
 
     /**
-     * Adds a {@link PropertyChangeListener} to this object.
-     * The listener will be notified whenever a bound property changes.
+     * Sets the map this square belongs to. Called by the {@link GameMap} itself,
+     * so changes made while building the map are not reported.
      *
-     * @param listener the {@link PropertyChangeListener} to be added
+     * @param gameMap the map containing this square
      */
-    public void addPropertyChangeListener(PropertyChangeListener listener) {
-        this.propertyChangeSupport.addPropertyChangeListener(listener);
+    void setGameMap(GameMap gameMap) {
+        this.gameMap = gameMap;
     }
 
     public int getIndexX() {
@@ -94,7 +102,15 @@ public class Square {
     }
 
     public void setType(MapObjectType type) {
+        boolean changed = this.type != type;
         this.type = type;
+        if (changed) {
+            updatePrimaryTypes();
+        }
+        if (changed && gameMap != null) {
+            gameMap.updateTileType(this);
+            gameMap.increaseLayoutVersion();
+        }
     }
 
     public Snack getSnack() {
@@ -110,7 +126,11 @@ public class Square {
                 log.debug("Removing snack from square id {}", id);
             }
             this.snack = snack;
-            propertyChangeSupport.firePropertyChange("square", null, this);
+            updatePrimaryTypes();
+            if (gameMap != null) {
+                gameMap.updateSnackType(this);
+                gameMap.markDirty(this);
+            }
         }
     }
 
@@ -122,59 +142,140 @@ public class Square {
     /**
      * @return the dominant type of MapObject
      */
-    public synchronized String getPrimaryType() {
-        if (type == MapObjectType.WALL) {
-            return "W";
-        } else if (type == MapObjectType.FLOOR) {
-            List<Mob> mobsCopy = new ArrayList<>(mobs);
-            if (mobsCopy.stream().anyMatch(mob -> mob instanceof Ghost || mob instanceof ScriptGhost)) return "G";
-            else if (mobsCopy.stream().anyMatch(mob -> mob instanceof SnackMan)) return "SM";
-            else if (mobsCopy.stream().anyMatch(mob -> mob instanceof Chicken)) return "C";
-            else if (this.snack != null && !this.snack.getSnackType().equals(SnackType.EGG))
-                return "S";     // eats all snacks except for eggs
-        }
-        return "L";
+    public String getPrimaryType() {
+        return PrimaryTypeCode.toChickenType(primaryType);
     }
 
     /**
      * @return the dominant type of MapObject for the ghost
      */
-    public synchronized String getPrimaryTypeForGhost() {
-        if (type == MapObjectType.WALL) {
-            return "W";
-        } else if (type == MapObjectType.FLOOR) {
-            List<Mob> mobsCopy = new ArrayList<>(mobs);
-            if (mobsCopy.stream().anyMatch(mob -> mob instanceof SnackMan)) return "M";
-            if (mobsCopy.stream().anyMatch(mob -> mob instanceof Chicken)) return "C";
-            if (mobsCopy.stream().anyMatch(mob -> mob instanceof Ghost)) return "G";
-            if (mobsCopy.stream().anyMatch(mob -> mob instanceof ScriptGhost)) return "G";
-            else if (this.snack != null) return "S";
-        }
-        return "L";
+    public String getPrimaryTypeForGhost() {
+        return PrimaryTypeCode.toGhostType(primaryTypeForGhost);
     }
 
     /**
      * @return the dominant type of MapObject for the ghost with the high difficulty
      */
     public String getPrimaryTypeForGhostWithHighDifficulty(long ghostId) {
-        if (type == MapObjectType.WALL) {
-            return "W";
-        } else if (type == MapObjectType.FLOOR) {
-            if (this.mobs.stream().anyMatch(mob -> mob instanceof SnackMan)) return "M";
+        if (primaryTypeForGhost == PrimaryTypeCode.WALL || primaryTypeForGhost == PrimaryTypeCode.SNACKMAN) {
+            return PrimaryTypeCode.toGhostType(primaryTypeForGhost);
         }
         return "L";
     }
 
+    /**
+     * @return the {@link PrimaryTypeCode} of the dominant type for the chickens
+     */
+    public byte getPrimaryTypeCode() {
+        return primaryType;
+    }
+
+    /**
+     * @return the {@link PrimaryTypeCode} of the dominant type for the script ghosts
+     */
+    public byte getPrimaryTypeCodeForGhost() {
+        return primaryTypeForGhost;
+    }
+
+    /**
+     * Finds the dominant types again after the mobs, the snack or the type of this square changed
+     */
+    private synchronized void updatePrimaryTypes() {
+        if (type == MapObjectType.WALL) {
+            primaryType = PrimaryTypeCode.WALL;
+            primaryTypeForGhost = PrimaryTypeCode.WALL;
+        } else {
+            boolean ghost = false;
+            boolean snackMan = false;
+            boolean chicken = false;
+            for (Mob mob : mobs) {
+                ghost |= mob instanceof Ghost || mob instanceof ScriptGhost;
+                snackMan |= mob instanceof SnackMan;
+                chicken |= mob instanceof Chicken;
+            }
+            if (ghost) primaryType = PrimaryTypeCode.GHOST;
+            else if (snackMan) primaryType = PrimaryTypeCode.SNACKMAN;
+            else if (chicken) primaryType = PrimaryTypeCode.CHICKEN;
+            // chickens eat all snacks except for eggs
+            else if (snack != null && snack.getSnackType() != SnackType.EGG) primaryType = PrimaryTypeCode.SNACK;
+            else primaryType = PrimaryTypeCode.EMPTY;
+
+            if (snackMan) primaryTypeForGhost = PrimaryTypeCode.SNACKMAN;
+            else if (chicken) primaryTypeForGhost = PrimaryTypeCode.CHICKEN;
+            else if (ghost) primaryTypeForGhost = PrimaryTypeCode.GHOST;
+            else if (snack != null) primaryTypeForGhost = PrimaryTypeCode.SNACK;
+            else primaryTypeForGhost = PrimaryTypeCode.EMPTY;
+        }
+        if (gameMap != null) {
+            gameMap.updatePrimaryType(this);
+        }
+    }
+
+    /**
+     * @return the mobs on this square, iterating the list never fails while mobs move
+     */
     public List<Mob> getMobs() {
-        return mobs;
+        return mobsView;
     }
 
     public void addMob(Mob mob) {
-        this.mobs.add(mob);
+        synchronized (this) {
+            this.mobs.add(mob);
+            updatePrimaryTypes();
+        }
+        notifyMapOfMove(mob, null, this);
     }
 
     public void removeMob(Mob mob) {
-        this.mobs.remove(mob);
+        boolean removed;
+        synchronized (this) {
+            removed = this.mobs.remove(mob);
+            updatePrimaryTypes();
+        }
+        notifyMapOfMove(mob, removed ? this : null, null);
+    }
+
+    /**
+     * Moves a mob from this square onto another one. Both squares are locked in the order of their ids,
+     * so two moves never run into each other and a mob is never left on both squares.
+     *
+     * @param mob    the mob standing on this square
+     * @param target the square the mob moves onto
+     */
+    public void moveMob(Mob mob, Square target) {
+        if (target == this) {
+            return;
+        }
+        Square first = id < target.id ? this : target;
+        Square second = first == this ? target : this;
+        boolean removed;
+        synchronized (first) {
+            synchronized (second) {
+                removed = this.mobs.remove(mob);
+                target.mobs.add(mob);
+                updatePrimaryTypes();
+                target.updatePrimaryTypes();
+            }
+        }
+        notifyMapOfMove(mob, removed ? this : null, target);
+    }
+
+    /**
+     * Chickens and script ghosts are part of the downloadable map, players are not.
+     * The map keeps track of the squares with a snackman for the script ghosts hunting it.
+     *
+     * @param from the square the mob left or null
+     * @param to   the square the mob entered or null
+     */
+    private void notifyMapOfMove(Mob mob, Square from, Square to) {
+        if (gameMap == null) {
+            return;
+        }
+        if (mob instanceof Chicken || mob instanceof ScriptGhost) {
+            gameMap.increaseVersion();
+        } else if (mob instanceof SnackMan) {
+            gameMap.moveSnackMan(from, to);
+        }
     }
 
     @Override
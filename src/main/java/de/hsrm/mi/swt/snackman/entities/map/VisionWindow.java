@@ -0,0 +1,58 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The squares around a chicken as the movement scripts get them: the dominant types of the squares
+ * row by row from north west to south east, followed by the direction the chicken is looking in.
+ * The window is filled again for every decision of the chicken, so preparing the view allocates nothing.
+ * The list reads the {@link PrimaryTypeCode}s of the window, it changes when the window is filled again.
+ */
+public class VisionWindow extends AbstractList<String> implements RandomAccess {
+
+    private final int radius;
+    private final byte[] codes;
+    private String lookingDirection = "";
+
+    /**
+     * @param radius the number of squares seen in every direction
+     */
+    public VisionWindow(int radius) {
+        this.radius = radius;
+        this.codes = new byte[(2 * radius + 1) * (2 * radius + 1)];
+    }
+
+    /**
+     * Copies the dominant types of the squares around a square into the window
+     *
+     * @param gameMap          the map of the chicken
+     * @param centerX          the x-index of the square of the chicken
+     * @param centerZ          the z-index of the square of the chicken
+     * @param lookingDirection the direction the chicken is looking in, as the scripts expect it
+     */
+    public void fill(GameMap gameMap, int centerX, int centerZ, String lookingDirection) {
+        gameMap.copyPrimaryTypes(centerX, centerZ, radius, codes);
+        this.lookingDirection = lookingDirection;
+    }
+
+    /**
+     * @return the {@link PrimaryTypeCode}s of the squares, without the looking direction
+     */
+    public byte[] getCodes() {
+        return codes;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index == codes.length) {
+            return lookingDirection;
+        }
+        return PrimaryTypeCode.toChickenType(codes[index]);
+    }
+
+    @Override
+    public int size() {
+        return codes.length + 1;
+    }
+}
@@ -26,6 +26,10 @@ public abstract class Mob {
     private Vector3d forward = new Vector3d(0, 0, -1);
     private GameMap gameMap;
     private Vector3d tempPosition  = new Vector3d(0, 0, -1);
+    // reused by every call of move, so moving does not allocate
+    private final Vector3d moveScratch = new Vector3d();
+    // whether the last sweep was stopped by a wall in x direction, otherwise in z direction
+    private boolean sweepBlockedX = false;
     private boolean squareUnderneathIsWall = false;
 
     /**
@@ -156,14 +160,7 @@ public abstract class Mob {
         int moveDirZ = (f ? 1 : 0) - (b ? 1 : 0);
         int moveDirX = (r ? 1 : 0) - (l ? 1 : 0);
 
-        Vector3d move = new Vector3d();
-
-        if (f || b) {
-            move.z -= moveDirZ;
-        }
-        if (l || r) {
-            move.x += moveDirX;
-        }
+        Vector3d move = moveScratch.set(moveDirX, 0, -moveDirZ);
 
         move.rotate(quat);
         move.y = 0;
@@ -171,6 +168,11 @@ public abstract class Mob {
             move.normalize();
         move.x = move.x * delta * speed;
         move.z = move.z * delta * speed;
+
+        // long steps must not jump over a wall, they end in front of the first wall on the way
+        if (position.y < GameConfig.SQUARE_HEIGHT) {
+            slideAlongFirstWall(move, gameMap);
+        }
         double xNew = position.x + move.x;
         double zNew = position.z + move.z;
 
@@ -256,7 +258,7 @@ public abstract class Mob {
      * 3 = both / diagonal collision / corner
      */
     public int checkWallCollision(double x, double z, GameMap gameMap) throws IndexOutOfBoundsException {
-        if (gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(x), calcMapIndexOfCoordinate(z)).getType() == MapObjectType.WALL) {
+        if (gameMap.isWallAtIndexXZ(calcMapIndexOfCoordinate(x), calcMapIndexOfCoordinate(z))) {
             if (getPosY() >= GameConfig.SQUARE_HEIGHT) {
                 return 0;
             } else {
@@ -265,28 +267,25 @@ public abstract class Mob {
         }
 
         int collisionCase = 0;
-        Square currentSquare = gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(x), calcMapIndexOfCoordinate(z));
+        // the target is not a wall, so it is inside of the map
+        int indexX = calcMapIndexOfCoordinate(x);
+        int indexZ = calcMapIndexOfCoordinate(z);
 
-        double squareCenterX = currentSquare.getIndexX() * GameConfig.SQUARE_SIZE + GameConfig.SQUARE_SIZE / 2;
-        double squareCenterZ = currentSquare.getIndexZ() * GameConfig.SQUARE_SIZE + GameConfig.SQUARE_SIZE / 2;
+        double squareCenterX = indexX * GameConfig.SQUARE_SIZE + GameConfig.SQUARE_SIZE / 2;
+        double squareCenterZ = indexZ * GameConfig.SQUARE_SIZE + GameConfig.SQUARE_SIZE / 2;
 
         int horizontalRelativeToCenter = (x - squareCenterX <= 0) ? -1 : 1;
         int verticalRelativeToCenter = (z - squareCenterZ <= 0) ? -1 : 1;
 
-        Square squareLeftRight = gameMap.getSquareAtIndexXZ(currentSquare.getIndexX() + horizontalRelativeToCenter,
-                currentSquare.getIndexZ());
-        Square squareTopBottom = gameMap.getSquareAtIndexXZ(currentSquare.getIndexX(),
-                currentSquare.getIndexZ() + verticalRelativeToCenter);
-        Square squareDiagonal = gameMap.getSquareAtIndexXZ(currentSquare.getIndexX() + horizontalRelativeToCenter,
-                currentSquare.getIndexZ() + verticalRelativeToCenter);
-
-        if (squareLeftRight.getType() == MapObjectType.WALL) {
-            Vector3d origin = new Vector3d(
-                    horizontalRelativeToCenter > 0 ? (currentSquare.getIndexX() + 1) * GameConfig.SQUARE_SIZE
-                            : currentSquare.getIndexX() * GameConfig.SQUARE_SIZE,
-                    0, 1);
-            Vector3d line = new Vector3d(0, 1, 0);
-            if (calcIntersectionWithLine(x, z, origin, line)) {
+        boolean wallLeftRight = gameMap.isWallAtIndexXZ(indexX + horizontalRelativeToCenter, indexZ);
+        boolean wallTopBottom = gameMap.isWallAtIndexXZ(indexX, indexZ + verticalRelativeToCenter);
+        boolean wallDiagonal = gameMap.isWallAtIndexXZ(indexX + horizontalRelativeToCenter, indexZ + verticalRelativeToCenter);
+
+        if (wallLeftRight) {
+            // the border to the wall is the line x = borderX
+            double borderX = horizontalRelativeToCenter > 0 ? (indexX + 1) * GameConfig.SQUARE_SIZE
+                    : indexX * GameConfig.SQUARE_SIZE;
+            if (Math.abs(x - borderX) <= this.radius) {
                 if (getPosY() >= GameConfig.SQUARE_HEIGHT) {
                     collisionCase = 0;
                 } else {
@@ -295,13 +294,11 @@ public abstract class Mob {
             }
         }
 
-        if (squareTopBottom.getType() == MapObjectType.WALL) {
-            Vector3d origin = new Vector3d(0,
-                    verticalRelativeToCenter > 0 ? (currentSquare.getIndexZ() + 1) * GameConfig.SQUARE_SIZE
-                            : currentSquare.getIndexZ() * GameConfig.SQUARE_SIZE,
-                    1);
-            Vector3d line = new Vector3d(1, 0, 0);
-            if (calcIntersectionWithLine(x, z, origin, line)) {
+        if (wallTopBottom) {
+            // the border to the wall is the line z = borderZ
+            double borderZ = verticalRelativeToCenter > 0 ? (indexZ + 1) * GameConfig.SQUARE_SIZE
+                    : indexZ * GameConfig.SQUARE_SIZE;
+            if (Math.abs(z - borderZ) <= this.radius) {
                 if (getPosY() >= GameConfig.SQUARE_HEIGHT) {
                     collisionCase = 0;
                 } else {
@@ -310,11 +307,11 @@ public abstract class Mob {
             }
         }
 
-        if (squareDiagonal.getType() == MapObjectType.WALL && collisionCase == 0) {
-            double diagX = horizontalRelativeToCenter > 0 ? (currentSquare.getIndexX() + 1) * GameConfig.SQUARE_SIZE
-                    : currentSquare.getIndexX() * GameConfig.SQUARE_SIZE;
-            double diagZ = verticalRelativeToCenter > 0 ? (currentSquare.getIndexZ() + 1) * GameConfig.SQUARE_SIZE
-                    : currentSquare.getIndexZ() * GameConfig.SQUARE_SIZE;
+        if (wallDiagonal && collisionCase == 0) {
+            double diagX = horizontalRelativeToCenter > 0 ? (indexX + 1) * GameConfig.SQUARE_SIZE
+                    : indexX * GameConfig.SQUARE_SIZE;
+            double diagZ = verticalRelativeToCenter > 0 ? (indexZ + 1) * GameConfig.SQUARE_SIZE
+                    : indexZ * GameConfig.SQUARE_SIZE;
             double dist = Math.sqrt((diagX - x) * (diagX - x) + (diagZ - z) * (diagZ - z));
             if (dist <= this.radius)
                 if (getPosY() >= GameConfig.SQUARE_HEIGHT) {
@@ -327,6 +324,87 @@ public abstract class Mob {
         return collisionCase;
     }
 
+    /**
+     * Shortens a step that runs into a wall. Only the direction that goes into the wall is stopped,
+     * the rest of the step slides along the wall until it reaches the next wall on its way.
+     *
+     * @param move the step, which is changed
+     */
+    private void slideAlongFirstWall(Vector3d move, GameMap gameMap) {
+        double walkable = sweepToFirstWall(move.x, move.z, gameMap);
+        if (walkable >= 1) {
+            return;
+        }
+        double stopX = position.x + walkable * move.x;
+        double stopZ = position.z + walkable * move.z;
+        if (sweepBlockedX) {
+            double restZ = (1 - walkable) * move.z;
+            move.x *= walkable;
+            move.z = walkable * move.z + restZ * sweepToFirstWall(stopX, stopZ, 0, restZ, gameMap);
+        } else {
+            double restX = (1 - walkable) * move.x;
+            move.z *= walkable;
+            move.x = walkable * move.x + restX * sweepToFirstWall(stopX, stopZ, restX, 0, gameMap);
+        }
+    }
+
+    /**
+     * Follows the path of the center of the mob through the squares of the map (DDA traversal),
+     * so the cost depends on the number of squares passed and not on the length of the step.
+     * Only walls between the current square and the target square are considered,
+     * a wall on the target square itself is left to {@link #checkWallCollision(double, double, GameMap)}.
+     *
+     * @param moveX the step in x direction
+     * @param moveZ the step in z direction
+     * @return the share of the step the mob can walk until it touches the first wall on the way, 1 if there is none
+     */
+    public double sweepToFirstWall(double moveX, double moveZ, GameMap gameMap) {
+        return sweepToFirstWall(position.x, position.z, moveX, moveZ, gameMap);
+    }
+
+    private double sweepToFirstWall(double fromX, double fromZ, double moveX, double moveZ, GameMap gameMap) {
+        int indexX = calcMapIndexOfCoordinate(fromX);
+        int indexZ = calcMapIndexOfCoordinate(fromZ);
+        int targetX = calcMapIndexOfCoordinate(fromX + moveX);
+        int targetZ = calcMapIndexOfCoordinate(fromZ + moveZ);
+        int stepX = moveX > 0 ? 1 : -1;
+        int stepZ = moveZ > 0 ? 1 : -1;
+        // share of the step at which the center crosses the next border in x and z direction
+        double nextBorderX = moveX == 0 ? Double.POSITIVE_INFINITY
+                : ((indexX + (stepX > 0 ? 1 : 0)) * GameConfig.SQUARE_SIZE - fromX) / moveX;
+        double nextBorderZ = moveZ == 0 ? Double.POSITIVE_INFINITY
+                : ((indexZ + (stepZ > 0 ? 1 : 0)) * GameConfig.SQUARE_SIZE - fromZ) / moveZ;
+        double borderDistanceX = moveX == 0 ? Double.POSITIVE_INFINITY : GameConfig.SQUARE_SIZE / Math.abs(moveX);
+        double borderDistanceZ = moveZ == 0 ? Double.POSITIVE_INFINITY : GameConfig.SQUARE_SIZE / Math.abs(moveZ);
+
+        while (indexX != targetX || indexZ != targetZ) {
+            double crossing;
+            double walkable;
+            boolean blockedX = nextBorderX < nextBorderZ;
+            if (blockedX) {
+                crossing = nextBorderX;
+                indexX += stepX;
+                nextBorderX += borderDistanceX;
+                double border = (indexX + (stepX > 0 ? 0 : 1)) * GameConfig.SQUARE_SIZE;
+                walkable = (border - stepX * radius - fromX) / moveX;
+            } else {
+                crossing = nextBorderZ;
+                indexZ += stepZ;
+                nextBorderZ += borderDistanceZ;
+                double border = (indexZ + (stepZ > 0 ? 0 : 1)) * GameConfig.SQUARE_SIZE;
+                walkable = (border - stepZ * radius - fromZ) / moveZ;
+            }
+            if (crossing > 1 || (indexX == targetX && indexZ == targetZ)) {
+                return 1;
+            }
+            if (gameMap.isWallAtIndexXZ(indexX, indexZ)) {
+                sweepBlockedX = blockedX;
+                return Math.max(0, Math.min(crossing, walkable));
+            }
+        }
+        return 1;
+    }
+
     /**
      * calculates whether the player-cirlce intersects with a line
      *
@@ -337,8 +415,11 @@ public abstract class Mob {
      * @returns
      */
     public boolean calcIntersectionWithLine(double xNew, double zNew, Vector3d origin, Vector3d direction) {
-        Vector3d line = origin.cross(direction);
-        double dist = Math.abs(line.x * xNew + line.y * zNew + line.z) / Math.sqrt(line.x * line.x + line.y * line.y);
+        // homogeneous line through the origin in the given direction, without changing the origin
+        double lineX = origin.y * direction.z - origin.z * direction.y;
+        double lineY = origin.z * direction.x - origin.x * direction.z;
+        double lineZ = origin.x * direction.y - origin.y * direction.x;
+        double dist = Math.abs(lineX * xNew + lineY * zNew + lineZ) / Math.sqrt(lineX * lineX + lineY * lineY);
         return dist <= this.radius;
     }
 
@@ -376,7 +457,7 @@ public abstract class Mob {
     }
 
     public boolean squareUnderneathIsWall(Vector3d positionImport) {
-        if (gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(positionImport.x), calcMapIndexOfCoordinate(positionImport.z)).getType() == MapObjectType.WALL) {
+        if (gameMap.isWallAtIndexXZ(calcMapIndexOfCoordinate(positionImport.x), calcMapIndexOfCoordinate(positionImport.z))) {
             return true;
         } else {
             return false;
@@ -384,7 +465,7 @@ public abstract class Mob {
     }
 
     public boolean squareUnderneathIsWall() {
-        if (gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(position.x), calcMapIndexOfCoordinate(position.z)).getType() == MapObjectType.WALL) {
+        if (gameMap.isWallAtIndexXZ(calcMapIndexOfCoordinate(position.x), calcMapIndexOfCoordinate(position.z))) {
             return true;
         } else {
             return false;
@@ -392,7 +473,7 @@ public abstract class Mob {
     }
 
     public boolean squareUnderneathIsFloor(Vector3d positionImport) {
-        if (gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(positionImport.x), calcMapIndexOfCoordinate(positionImport.z)).getType() == MapObjectType.FLOOR) {
+        if (gameMap.getTypeAtIndexXZ(calcMapIndexOfCoordinate(positionImport.x), calcMapIndexOfCoordinate(positionImport.z)) == MapObjectType.FLOOR) {
             return true;
         } else {
             return false;
@@ -400,7 +481,7 @@ public abstract class Mob {
     }
 
     public boolean squareUnderneathIsFloor() {
-        if (gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(position.x), calcMapIndexOfCoordinate(position.z)).getType() == MapObjectType.FLOOR) {
+        if (gameMap.getTypeAtIndexXZ(calcMapIndexOfCoordinate(position.x), calcMapIndexOfCoordinate(position.z)) == MapObjectType.FLOOR) {
             return true;
         } else {
             return false;
@@ -543,10 +624,10 @@ public abstract class Mob {
         int mobX = calcMapIndexOfCoordinate(position.x);
         int mobZ = calcMapIndexOfCoordinate(position.z);
         //Check for wall elements attached to given square
-        boolean leftWall = gameMap.getSquareAtIndexXZ(mobX - 1, mobZ).getType() == MapObjectType.WALL;
-        boolean rightWall = gameMap.getSquareAtIndexXZ(mobX + 1, mobZ).getType() == MapObjectType.WALL;
-        boolean topWall = gameMap.getSquareAtIndexXZ(mobX, mobZ - 1).getType() == MapObjectType.WALL;
-        boolean bottomWall = gameMap.getSquareAtIndexXZ(mobX, mobZ + 1).getType() == MapObjectType.WALL;
+        boolean leftWall = gameMap.isWallAtIndexXZ(mobX - 1, mobZ);
+        boolean rightWall = gameMap.isWallAtIndexXZ(mobX + 1, mobZ);
+        boolean topWall = gameMap.isWallAtIndexXZ(mobX, mobZ - 1);
+        boolean bottomWall = gameMap.isWallAtIndexXZ(mobX, mobZ + 1);
         // Case 1: LEFT & RIGHT
         if (!topWall && !bottomWall && leftWall && rightWall) {
             return WallAlignmentStatus.CASE1_LEFT_RIGHT;
@@ -613,9 +694,10 @@ public abstract class Mob {
      * @return WallSectionStatus Enum value representing the section of the wall the player is currently in relative to the wall's center.
      */
     public WallSectionStatus getWallSection() {
-        if (gameMap != null) {
-            int mobX = calcMapIndexOfCoordinate(position.x);
-            int mobZ = calcMapIndexOfCoordinate(position.z);
+        int mobX = calcMapIndexOfCoordinate(position.x);
+        int mobZ = calcMapIndexOfCoordinate(position.z);
+        // all indexes outside of the map share one square, the search for its border would not end
+        if (gameMap != null && gameMap.isInside(mobX, mobZ)) {
             Square square = gameMap.getSquareAtIndexXZ(mobX, mobZ);
             long idOfSquare = square.getId();
             double tempX = position.x;
@@ -2,30 +2,29 @@ package de.hsrm.mi.swt.snackman.entities.mobileObjects;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
-import org.python.core.PyList;
-import org.python.core.PyObject;
-import org.python.core.PyString;
-import org.python.util.PythonInterpreter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.hsrm.mi.swt.snackman.SnackmanApplication;
 import de.hsrm.mi.swt.snackman.configuration.GameConfig;
 import de.hsrm.mi.swt.snackman.entities.map.GameMap;
 import de.hsrm.mi.swt.snackman.entities.map.Square;
-import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Direction;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.movement.MovementStrategies;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.movement.MovementStrategy;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.movement.SmartGhostMovementStrategy;
 
 /**
  * The ScriptGhost represents a ghost entity in the game that
  * moves autonomously by executing Python scripts. It extends the Mob class
- * and implements Runnable to handle threaded movement logic.
+ * and is moved step by step by the simulation of its lobby.
  * Based on the visible squares around its current position, the script decides
  * the next move for the ghost.
  */
@@ -40,9 +39,15 @@ public class ScriptGhost extends Mob implements Runnable {
     private boolean isWalking;
     private int ghostPosX, ghostPosZ;
     // python
-    private PythonInterpreter pythonInterpreter = null;
+    private MovementStrategy<List<String>> movementStrategy;
+    private MovementStrategy<List<List<String>>> mazeMovementStrategy;
     private ScriptGhostDifficulty difficulty;
     private GameMap gameMap;
+    // simulation, times are in ms of simulation time
+    private long nextStepTime = -1;
+    private Square nextSquare;
+    private boolean turnAnnounced = false;
+    private CompletableFuture<Integer> pendingMove;
 
     public ScriptGhost() {
         super();
@@ -120,33 +125,100 @@ public class ScriptGhost extends Mob implements Runnable {
     }
 
     /**
-     * Contains the movement logic for the ghost. The ghost calculates its next
-     * moves and updates its position.
+     * Advances the ghost to the given simulation time. The ghost chooses its next square,
+     * turns towards it after half of the waiting time and walks onto it after the other half.
+     * While the ghost stands on the same square as the snackman, it does not choose a new square.
+     * The movement script runs directly in the step.
+     *
+     * @param now the simulation time in ms
+     */
+    public void step(long now) {
+        step(now, Runnable::run);
+    }
+
+    /**
+     * Advances the ghost to the given simulation time like {@link #step(long)}, but runs the
+     * movement script on the given executor. Until the script has chosen a direction the ghost
+     * keeps waiting on its square and checks the result again in the next step.
+     *
+     * @param now        the simulation time in ms
+     * @param aiExecutor runs the movement script
+     */
+    public void step(long now, Executor aiExecutor) {
+        if (!isWalking) {
+            return;
+        }
+        if (nextStepTime < 0) {
+            nextStepTime = now + WAITING_TIME;
+            return;
+        }
+        if (now < nextStepTime) {
+            return;
+        }
+        if (nextSquare != null && !turnAnnounced) {
+            propertyChangeSupport.firePropertyChange("scriptGhost", null, this);
+            turnAnnounced = true;
+            nextStepTime = now + WAITING_TIME / 2;
+            return;
+        }
+        if (nextSquare != null) {
+            walkOnto(nextSquare);
+            log.debug("New position is x {} z {}", this.ghostPosX, this.ghostPosZ);
+        }
+        if (notStandingOnSameSquareAsSnackman() && chooseNextSquare(aiExecutor)) {
+            nextStepTime = now + WAITING_TIME / 2;
+        }
+    }
+
+    /**
+     * Starts the movement script for the squares around the ghost and turns the ghost towards
+     * the square it walks to next as soon as the script has finished
+     *
+     * @param aiExecutor runs the movement script
+     * @return true if the next square was chosen, false if the script has not finished yet
      */
-    protected void move() {
-        while (isWalking) {
-            // get 9 squares
-            Square currentPosition = this.gameMap.getSquareAtIndexXZ(this.ghostPosX, this.ghostPosZ);
-            List<String> squares = getSquaresVisibleForGhost(currentPosition, lookingDirection);
-            log.debug("Squares ghost is seeing: {}", squares);
-            log.debug("Current position is x {} z {}", this.ghostPosX, this.ghostPosZ);
-
-            if (notStandingOnSameSquareAsSnackman()) {
-                int newMove = 0;
+    private boolean chooseNextSquare(Executor aiExecutor) {
+        if (pendingMove == null) {
+            try {
                 if (this.difficulty == ScriptGhostDifficulty.EASY) {
-                    newMove = executeMovementSkript(squares);
+                    // get 9 squares
+                    Square currentPosition = this.gameMap.getSquareAtIndexXZ(this.ghostPosX, this.ghostPosZ);
+                    List<String> squares = getSquaresVisibleForGhost(currentPosition, lookingDirection);
+                    log.debug("Squares ghost is seeing: {}", squares);
+                    log.debug("Current position is x {} z {}", this.ghostPosX, this.ghostPosZ);
+                    pendingMove = CompletableFuture.supplyAsync(() -> executeMovementSkript(squares), aiExecutor);
+                } else if (mazeMovementStrategy instanceof SmartGhostMovementStrategy) {
+                    // the shipped script follows the shortest path, which all hard ghosts of the map share
+                    pendingMove = CompletableFuture.completedFuture(chooseDirectionToSnackMan());
                 } else {
                     List<List<String>> pythonList = new ArrayList<>();
                     for (String[] row : getStringMap()) {
                         pythonList.add(Arrays.asList(row));
                     }
-                    newMove = executeMovementSkriptDifficult(pythonList);
+                    pendingMove = CompletableFuture.supplyAsync(() -> executeMovementSkriptDifficult(pythonList), aiExecutor);
                 }
-                setNewPosition(newMove);
-                log.debug("New position is x {} z {}", this.ghostPosX, this.ghostPosZ);
+            } catch (RejectedExecutionException e) {
+                log.debug("Movement script of ghost {} was rejected", id);
+                return false;
             }
-
         }
+        if (!pendingMove.isDone()) {
+            return false;
+        }
+        int newMove;
+        try {
+            newMove = pendingMove.join();
+        } catch (Exception e) {
+            log.warn("Movement script of ghost {} failed", id, e);
+            return false;
+        } finally {
+            pendingMove = null;
+        }
+        Direction walkingDirection = Direction.getDirection(newMove);
+        this.lookingDirection = walkingDirection;
+        this.nextSquare = walkingDirection.getNewPosition(this.gameMap, this.ghostPosX, this.ghostPosZ, walkingDirection);
+        this.turnAnnounced = false;
+        return true;
     }
 
     /**
@@ -175,20 +247,16 @@ public class ScriptGhost extends Mob implements Runnable {
     }
 
     /**
-     * Executes the ghost's movement script written in Python and determines the
-     * next move.
+     * Executes the ghost's movement script and determines the next move.
+     * The shipped scripts run as Java implementations, custom scripts in Python.
      *
      * @param squares a list of squares visible from the ghost's current position.
      * @return the index of the next move resulting from the Python script's execution.
      */
     public int executeMovementSkript(List<String> squares) {
         try {
-            log.debug("Running python ghost script with: {}", squares.toString());
-            pythonInterpreter.exec(GameConfig.GHOST_SCRIPT_HARD + ".choose_next_square");
-            PyObject result = pythonInterpreter.eval(GameConfig.GHOST_SCRIPT_EASY + ".choose_next_square(" + convertToPyStringList(squares) + ")");
-            // PyObject result = func.__call__(new PyList(squares));
-
-            return Integer.parseInt(result.toString());
+            log.debug("Running python ghost script with: {}", squares);
+            return movementStrategy.chooseNextSquare(squares);
         } catch (Exception ex) {
             log.error("Error while executing ghost python script: ", ex);
             ex.printStackTrace();
@@ -196,15 +264,20 @@ public class ScriptGhost extends Mob implements Runnable {
         }
     }
 
-    private PyList convertToPyStringList(List<String> list) {
-        PyList pyList = new PyList();
-        for (String e : list) {
-            pyList.append(new PyString(e));
+    /**
+     * Looks up the first step of the shortest path to the nearest snackman in the snackman target lookup of the map
+     *
+     * @return the index of the next move, 0 if no snackman can be reached
+     */
+    public int chooseDirectionToSnackMan() {
+        int direction = gameMap.getSnackManTargetLookup().chooseDirection(ghostPosX, ghostPosZ);
+        if (direction < 0) {
+            log.debug("Ghost {} can not reach a snackman", id);
+            return 0;
         }
-        return pyList;
+        return direction;
     }
 
-
     /**
      * Executes the ghost's movement script written in Python and determines the
      * next move.
@@ -213,16 +286,9 @@ public class ScriptGhost extends Mob implements Runnable {
      * @return the index of the next move resulting from the Python script's execution.
      */
     public int executeMovementSkriptDifficult(List<List<String>> pythonList) {
-        PyList pyListList = new PyList();
-        for (List<String> list : pythonList) {
-            pyListList.append(convertToPyStringList(list));
-        }
         try {
-            log.debug("Running python ghost script with: {}", pythonList.toString());
-            PyObject result = pythonInterpreter.eval(GameConfig.GHOST_SCRIPT_HARD + ".choose_next_square(" + pyListList + ")");
-            // PyObject result = func.__call__(new PyList(pythonList));
-
-            return Integer.parseInt(result.toString());
+            log.debug("Running python ghost script with: {}", pythonList);
+            return mazeMovementStrategy.chooseNextSquare(pythonList);
         } catch (Exception ex) {
             log.error("Error while executing difficult ghost python script: ", ex);
             ex.printStackTrace();
@@ -231,96 +297,47 @@ public class ScriptGhost extends Mob implements Runnable {
     }
 
     /**
-     * Initializes Jython for executing the chicken's movement script.
-     * Sets up the required Python environment and interpreter.
+     * Initializes the movement strategies of the ghost's scripts.
+     * The shipped scripts run in Java, Jython is only used for custom scripts.
      */
     public void initJython() {
-        this.pythonInterpreter = new PythonInterpreter();
-        pythonInterpreter.exec("import sys");
-        URL path = SnackmanApplication.class.getProtectionDomain().getCodeSource().getLocation();
-        String jarClassesPath = path.getPath().replace("nested:", "").replace("!", "");
-        pythonInterpreter.exec("if './extensions/chicken' not in sys.path: sys.path.insert(0, './extensions/chicken')");
-        pythonInterpreter.exec("if './extensions/ghost' not in sys.path: sys.path.insert(0, './extensions/ghost')");
-        pythonInterpreter.exec("if './extensions/maze' not in sys.path: sys.path.insert(0, './extensions/maze')");
-        pythonInterpreter.exec("if './extensions' not in sys.path: sys.path.insert(0, './extensions')");
-        pythonInterpreter.exec("if '.' not in sys.path: sys.path.insert(0, '.')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/chicken' not in sys.path: sys.path.append('" + jarClassesPath + "/chicken')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/ghost' not in sys.path: sys.path.append('" + jarClassesPath + "/ghost')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/maze' not in sys.path: sys.path.append('" + jarClassesPath + "/maze')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/Lib' not in sys.path: sys.path.append('" + jarClassesPath + "/Lib')");
-
-        this.pythonInterpreter.exec("import " + GameConfig.GHOST_SCRIPT_EASY);
-        this.pythonInterpreter.exec("import " + GameConfig.GHOST_SCRIPT_HARD);
+        this.movementStrategy = MovementStrategies.forSquares(GameConfig.GHOST_SCRIPT_EASY);
+        this.mazeMovementStrategy = MovementStrategies.forMaze(GameConfig.GHOST_SCRIPT_HARD);
     }
 
     /**
-     * Updates the ghost's position based on the chosen move and sets its new
-     * direction.
+     * Moves the ghost onto the given square and scares everything on it
      *
-     * @param newMove a list representing the next move for the ghost.
+     * @param newPosition the square to move to
      */
-    private void setNewPosition(int newMove) {
-        //get positions
-        Direction walkingDirection = Direction.getDirection(newMove);
-        this.lookingDirection = walkingDirection;
+    private void walkOnto(Square newPosition) {
         Square oldPosition = this.gameMap.getSquareAtIndexXZ(this.ghostPosX, this.ghostPosZ);
-        Square newPosition = walkingDirection.getNewPosition(this.gameMap, this.ghostPosX, this.ghostPosZ, walkingDirection);
-
-        try {
-            Thread.sleep(WAITING_TIME / 2);
-        } catch (InterruptedException e) {
-            log.error(e.getMessage());
-        }
-
-        propertyChangeSupport.firePropertyChange("scriptGhost", null, this);
-
-        try {
-            Thread.sleep(WAITING_TIME / 2);
-        } catch (InterruptedException e) {
-            log.error(e.getMessage());
-        }
+        this.nextSquare = null;
 
         // set new position
         this.ghostPosX = newPosition.getIndexX();
         this.ghostPosZ = newPosition.getIndexZ();
         this.setPosX(newPosition.getIndexX());
         this.setPosZ(newPosition.getIndexZ());
-        oldPosition.removeMob(this);
-        newPosition.addMob(this);
-        scaresEverythingThatCouldBeEncountered(newPosition, gameMap);
+        oldPosition.moveMob(this, newPosition);
         propertyChangeSupport.firePropertyChange("scriptGhost", null, this);
     }
 
     /**
-     * when moving, the ghost scares everything that gets in its way
-     *
-     * @param currentPosition current position
-     * @param gameMap         gamemap
-     */
-    private synchronized void scaresEverythingThatCouldBeEncountered(Square currentPosition, GameMap gameMap) {
-        for (Mob mob : gameMap.getSquareAtIndexXZ(currentPosition.getIndexX(), currentPosition.getIndexZ()).getMobs()) {
-            switch (mob) {
-                case Chicken chicken:
-                    chicken.isScaredFromGhost(true);
-                    break;
-                default:
-                    break;
-            }
-        }
-    }
-
-    /**
-     * starts a thread for moving the ghost
+     * Moves the ghost on its own thread, for ghosts that are not part of a lobby simulation
      */
     @Override
     public void run() {
-        try {
-            Thread.sleep(WAITING_TIME);
-            move();
-            log.debug("Stopping script ghost with id {}", id);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        long start = System.currentTimeMillis();
+        while (isWalking && !Thread.currentThread().isInterrupted()) {
+            step(System.currentTimeMillis() - start);
+            try {
+                Thread.sleep(GameConfig.SIMULATION_STEP);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
+        log.debug("Stopping script ghost with id {}", id);
     }
 
     public long getId() {
@@ -2,29 +2,28 @@ package de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.python.core.PyList;
-import org.python.core.PyObject;
-import org.python.core.PyString;
-import org.python.util.PythonInterpreter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.hsrm.mi.swt.snackman.SnackmanApplication;
 import de.hsrm.mi.swt.snackman.configuration.GameConfig;
 import de.hsrm.mi.swt.snackman.entities.map.GameMap;
 import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.map.VisionWindow;
 import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
 import de.hsrm.mi.swt.snackman.entities.mapObject.snack.Snack;
 import de.hsrm.mi.swt.snackman.entities.mapObject.snack.SnackType;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.EatingMob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.movement.MovementStrategies;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.movement.MovementStrategy;
 
 /**
  * Represents a chicken entity in the game, capable of moving around the map,
@@ -39,6 +38,9 @@ public class Chicken extends EatingMob implements Runnable {
     private final int CALORIES_PER_SIXTH = (MAX_CALORIES / 6);
     private final int MIN_EGG_CALORIES = 300;
     private final double EGG_CALORIE_PERCENTAGE = 0.3;
+    private final long BLOCKING_TIME = 10000; // ms a chicken with max calories stays a wall
+    private final long SCARED_EGG_DELAY = 10000; // ms a scared chicken lays its next egg later
+    private final long SCARED_TIME = 2300; // ms a chicken stays scared
     private int waitingTime;
     private long id;
     private Thickness thickness = Thickness.THIN;
@@ -48,9 +50,19 @@ public class Chicken extends EatingMob implements Runnable {
     private boolean isWalking;
     private boolean blockingPath = false;
     private volatile boolean isScared = false;
-    private Timer eggLayingTimer;
+    // simulation, times are in ms of simulation time
+    private long nextStepTime = -1;
+    private long lastStepTime = 0;
+    private long unblockTime;
+    private Square nextSquare;
+    private boolean turnAnnounced = false;
+    private long nextEggTime = -1;
+    private long scaredUntil = -1;
+    private CompletableFuture<Integer> pendingMove;
     // python
-    private PythonInterpreter pythonInterpreter = null;
+    private MovementStrategy<List<String>> movementStrategy;
+    // filled again for every decision, the next one is only prepared after the script finished
+    private final VisionWindow visibleSquares = new VisionWindow(2);
     private Properties pythonProps = new Properties();
     private String fileName;
     private GameMap gameMap;
@@ -79,7 +91,7 @@ public class Chicken extends EatingMob implements Runnable {
         this.lookingDirection = Direction.getRandomDirection();
         log.debug("Chicken looking direction is {}", lookingDirection);
         initJython();
-        initTimer();
+        startNewTimer();
     }
 
     /**
@@ -117,83 +129,142 @@ public class Chicken extends EatingMob implements Runnable {
     }
 
     /**
-     * initialises the timer for laying eggs
+     * Advances the chicken to the given simulation time. The chicken chooses its next square,
+     * turns towards it after half of its waiting time and walks onto it after the other half.
+     * Afterwards it consumes the snack on the new square and chooses the next one.
+     * The movement script runs directly in the step.
+     *
+     * @param now the simulation time in ms
      */
-    private void initTimer() {
-        this.eggLayingTimer = new Timer();
-        startNewTimer();
+    public void step(long now) {
+        step(now, Runnable::run);
     }
 
     /**
-     * Updates the chicken's position based on the chosen move and sets its new
-     * direction.
+     * Advances the chicken to the given simulation time like {@link #step(long)}, but runs the
+     * movement script on the given executor. Until the script has chosen a direction the chicken
+     * keeps waiting on its square and checks the result again in the next step.
      *
-     * @param newMove a list representing the next move for the chicken.
+     * @param now        the simulation time in ms
+     * @param aiExecutor runs the movement script
      */
-    private void setNewPosition(int newMove) {
-        //get positions
-        Direction walkingDirection = Direction.getDirection(newMove);
-        log.debug("Walking direction is: {}", walkingDirection);
+    public void step(long now, Executor aiExecutor) {
+        lastStepTime = now;
+        if (!isWalking) {
+            return;
+        }
+        if (isScared && scaredUntil >= 0 && now >= scaredUntil) {
+            // the messageLoop does not recognize changes of isScared, so it is reset after some time
+            setScared(false);
+        }
+        if (nextEggTime >= 0 && now >= nextEggTime) {
+            layEgg();
+        }
+        if (blockingPath) {
+            if (now >= unblockTime) {
+                unblockPath();
+            }
+            return;
+        }
+        if (nextStepTime < 0) {
+            nextStepTime = now + waitingTime;
+            return;
+        }
+        if (now < nextStepTime) {
+            return;
+        }
+        if (nextSquare != null && !turnAnnounced) {
+            propertyChangeSupport.firePropertyChange("chicken", null, this);
+            turnAnnounced = true;
+            nextStepTime = now + waitingTime / 2;
+            return;
+        }
+        if (nextSquare != null) {
+            walkOnto(nextSquare);
+            log.debug("New position is x {} z {}", this.chickenPosX, this.chickenPosZ);
 
-        this.lookingDirection = walkingDirection;
-        Square oldPosition = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
-        Square newPosition = walkingDirection.getNewPosition(this.gameMap, this.chickenPosX, this.chickenPosZ,
-                walkingDirection);
-        try {
-            log.debug("Waiting " + waitingTime + " sec before walking on next square.");
-            Thread.sleep(waitingTime / 2);
-        } catch (InterruptedException e) {
-            log.error(e.getMessage());
-            Thread.currentThread().interrupt();
+            // consume snack if present
+            Square currentPosition = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
+            if (currentPosition.getSnack().getSnackType() != SnackType.EMPTY && super.getKcal() < MAX_CALORIES && !currentPosition.getSnack().getSnackType().equals(SnackType.EGG)) {
+                log.debug("Snack being eaten at x {} z {}", this.chickenPosX, this.chickenPosZ);
+                consumeSnackOnSquare();
+            }
+            if (blockingPath) {
+                return;
+            }
         }
-        propertyChangeSupport.firePropertyChange("chicken", null, this);
+        if (chooseNextSquare(aiExecutor)) {
+            nextStepTime = now + waitingTime / 2;
+        }
+    }
 
+    /**
+     * Starts the movement script for the squares around the chicken and turns the chicken towards
+     * the square it walks to next as soon as the script has finished
+     *
+     * @param aiExecutor runs the movement script
+     * @return true if the next square was chosen, false if the script has not finished yet
+     */
+    private boolean chooseNextSquare(Executor aiExecutor) {
+        if (pendingMove == null) {
+            // get the 25 squares around the chicken
+            Square currentPosition = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
+            List<String> squares = getSquaresVisibleForChicken(this.gameMap, currentPosition, lookingDirection);
+            log.debug("Squares chicken is seeing: {}", squares);
+            log.debug("Current position is x {} z {}", this.chickenPosX, this.chickenPosZ);
+            try {
+                pendingMove = CompletableFuture.supplyAsync(() -> executeMovementSkript(squares), aiExecutor);
+            } catch (RejectedExecutionException e) {
+                log.debug("Movement script of chicken {} was rejected", id);
+                return false;
+            }
+        }
+        if (!pendingMove.isDone()) {
+            return false;
+        }
+        int newMove;
         try {
-            log.debug("Waiting " + waitingTime + " sec before walking on next square.");
-            Thread.sleep(waitingTime / 2);
-        } catch (InterruptedException e) {
-            log.error(e.getMessage());
-            Thread.currentThread().interrupt();
+            newMove = pendingMove.join();
+        } catch (Exception e) {
+            log.warn("Movement script of chicken {} failed", id, e);
+            return false;
+        } finally {
+            pendingMove = null;
         }
+        Direction walkingDirection = Direction.getDirection(newMove);
+        log.debug("Walking direction is: {}", walkingDirection);
 
-        // set new position
+        this.lookingDirection = walkingDirection;
+        this.nextSquare = walkingDirection.getNewPosition(this.gameMap, this.chickenPosX, this.chickenPosZ,
+                walkingDirection);
+        this.turnAnnounced = false;
+        return true;
+    }
+
+    /**
+     * Moves the chicken onto the given square
+     *
+     * @param newPosition the square to move to
+     */
+    private void walkOnto(Square newPosition) {
+        Square oldPosition = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
         this.chickenPosX = newPosition.getIndexX();
         this.chickenPosZ = newPosition.getIndexZ();
         this.setPosX(newPosition.getIndexX());
         this.setPosZ(newPosition.getIndexZ());
-        oldPosition.removeMob(this);
-        newPosition.addMob(this);
+        oldPosition.moveMob(this, newPosition);
+        this.nextSquare = null;
         propertyChangeSupport.firePropertyChange("chicken", null, this);
     }
 
     /**
-     * Contains the movement logic for the chicken. The chicken calculates its next move,
-     * updates its position and consumes any snacks found at its current location.
+     * The chicken stops being a wall and lays an egg
      */
-    protected void move() {
-        while (isWalking) {
-            // get 9 squares
-            Square currentPosition = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
-            List<String> squares = getSquaresVisibleForChicken(this.gameMap, currentPosition, lookingDirection);
-            log.debug("Squares chicken is seeing: {}", squares);
-
-            if (!blockingPath) {
-                log.debug("Current position is x {} z {}", this.chickenPosX, this.chickenPosZ);
-
-                int newMove = executeMovementSkript(squares);
-
-                // set new square you move to
-                setNewPosition(newMove);
-                log.debug("New position is x {} z {}", this.chickenPosX, this.chickenPosZ);
-            }
-
-            // consume snack if present
-            currentPosition = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
-            if (currentPosition.getSnack().getSnackType() != SnackType.EMPTY && super.getKcal() < MAX_CALORIES && !currentPosition.getSnack().getSnackType().equals(SnackType.EGG)) {
-                log.debug("Snack being eaten at x {} z {}", this.chickenPosX, this.chickenPosZ);
-                consumeSnackOnSquare();
-            }
-        }
+    private void unblockPath() {
+        Square chickensAktSquare = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
+        chickensAktSquare.setType(MapObjectType.FLOOR);
+        layEgg();
+        blockingPath = false;
     }
 
     /**
@@ -211,19 +282,10 @@ public class Chicken extends EatingMob implements Runnable {
                 currentSquare.setSnack(new Snack(SnackType.EMPTY));
                 if (super.getKcal() >= this.MAX_CALORIES) {
                     this.thickness = Thickness.VERY_HEAVY;
+                    // the chicken becomes a wall until step() unblocks it
                     blockingPath = true;
-                    new Thread(() -> {
-                        try {
-                            Square chickensAktSquare = this.gameMap.getSquareAtIndexXZ(this.chickenPosX, this.chickenPosZ);
-                            chickensAktSquare.setType(MapObjectType.WALL);
-                            Thread.sleep(10000);
-                            chickensAktSquare.setType(MapObjectType.FLOOR);
-                            layEgg();
-                            blockingPath = false;
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }).start();
+                    unblockTime = lastStepTime + BLOCKING_TIME;
+                    currentSquare.setType(MapObjectType.WALL);
 
                 } else {
                     if ((super.getKcal()) <= 2 * CALORIES_PER_SIXTH) {
@@ -248,56 +310,32 @@ public class Chicken extends EatingMob implements Runnable {
     }
 
     /**
-     * Initializes Jython for executing the chicken's movement script.
-     * Sets up the required Python environment and interpreter.
+     * Initializes the movement strategy of the chicken's script.
+     * The shipped scripts run in Java, Jython is only used for custom scripts.
      */
     public void initJython() {
-        this.pythonInterpreter = new PythonInterpreter();
-        pythonInterpreter.exec("import sys");
-        URL path = SnackmanApplication.class.getProtectionDomain().getCodeSource().getLocation();
-        String jarClassesPath = path.getPath().replace("nested:", "").replace("!", "");
-        pythonInterpreter.exec("if './extensions/chicken' not in sys.path: sys.path.insert(0, './extensions/chicken')");
-        pythonInterpreter.exec("if './extensions/ghost' not in sys.path: sys.path.insert(0, './extensions/ghost')");
-        pythonInterpreter.exec("if './extensions/maze' not in sys.path: sys.path.insert(0, './extensions/maze')");
-        pythonInterpreter.exec("if './extensions' not in sys.path: sys.path.insert(0, './extensions')");
-        pythonInterpreter.exec("if '.' not in sys.path: sys.path.insert(0, '.')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/chicken' not in sys.path: sys.path.append('" + jarClassesPath + "/chicken')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/ghost' not in sys.path: sys.path.append('" + jarClassesPath + "/ghost')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/maze' not in sys.path: sys.path.append('" + jarClassesPath + "/maze')");
-        pythonInterpreter.exec("if '" + jarClassesPath + "/Lib' not in sys.path: sys.path.append('" + jarClassesPath + "/Lib')");
         log.debug("Chicken Script: " + fileName);
-        this.pythonInterpreter.exec("import " + fileName);
+        this.movementStrategy = MovementStrategies.forSquares(fileName);
         setWaitingTime();
     }
 
     /**
-     * TODO
+     * Reads the time in ms the chicken waits between two steps from its script
      */
     private void setWaitingTime() {
-        PyObject result = pythonInterpreter.eval(fileName + ".getWaitingTime()");
-        this.waitingTime = result.asInt();
+        this.waitingTime = movementStrategy.getWaitingTime();
     }
 
     /**
-     * Executes the chicken's movement script written in Python and determines the
-     * next move.
+     * Executes the chicken's movement script and determines the next move.
+     * The shipped scripts run as Java implementations, custom scripts in Python.
      *
      * @param squares a list of squares visible from the chicken's current position.
      * @return the movement direction as int resulting from the Python script's execution.
      */
     public int executeMovementSkript(List<String> squares) {
-        log.debug("Running python chicken script with: {}", squares.toString());
-        PyObject result = pythonInterpreter.eval(fileName + ".choose_next_square(" + convertToPyStringList(squares) + ")");
-
-        return result.asInt();
-    }
-
-    private PyList convertToPyStringList(List<String> list) {
-        PyList pyList = new PyList();
-        for (String e : list) {
-            pyList.append(new PyString(e));
-        }
-        return pyList;
+        log.debug("Running python chicken script with: {}", squares);
+        return movementStrategy.chooseNextSquare(squares);
     }
 
     public Thickness getThickness() {
@@ -309,18 +347,20 @@ public class Chicken extends EatingMob implements Runnable {
     }
 
     /**
-     * starts a thread for moving the chicken
+     * Moves the chicken on its own thread, for chickens that are not part of a lobby simulation
      */
     @Override
     public void run() {
-        try {
-            Thread.sleep(waitingTime);
-            move();
-            log.debug("Stopping chicken with id {}", id);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
+        long start = System.currentTimeMillis();
+        while (isWalking && !Thread.currentThread().isInterrupted()) {
+            step(System.currentTimeMillis() - start);
+            try {
+                Thread.sleep(GameConfig.SIMULATION_STEP);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
+        log.debug("Stopping chicken with id {}", id);
     }
 
     public long getId() {
@@ -340,40 +380,28 @@ public class Chicken extends EatingMob implements Runnable {
     }
 
     /**
-     * Starts a new timer for laying eggs. If the chicken is scared, it adds a delay before starting the timer
+     * Schedules the next egg in simulation time, step() lays it when it is due.
+     * If the chicken is scared, it adds a delay before the next egg
      */
     public void startNewTimer() {
-        if (eggLayingTimer != null) {
-            eggLayingTimer.cancel();
-        }
-        eggLayingTimer = new Timer();
-        Timer isScaredTimer = new Timer();
-
-        TimerTask task = new TimerTask() {
-            public void run() {
-                layEgg();
-            }
-        };
-        //Set isScared false after a several of seconds because the messageLoop does not recognize changes
-        TimerTask scaredTimerTask = new TimerTask() {
-            public void run() {
-                setScared(false);
-            }
-        };
-
         // Random interval between 30 and 60 seconds
         long randomIntervalForLayingANewEgg = new Random().nextInt(30000, 60000);
-        long delayBecauseIsScared = 10000;
-        long timeIsScared = 2300;
 
         if (this.isScared) {
-            eggLayingTimer.scheduleAtFixedRate(task, (randomIntervalForLayingANewEgg) + delayBecauseIsScared, randomIntervalForLayingANewEgg);
-            isScaredTimer.schedule(scaredTimerTask, timeIsScared);
+            nextEggTime = lastStepTime + randomIntervalForLayingANewEgg + SCARED_EGG_DELAY;
+            scaredUntil = lastStepTime + SCARED_TIME;
         } else {
-            this.eggLayingTimer.scheduleAtFixedRate(task, randomIntervalForLayingANewEgg, randomIntervalForLayingANewEgg);
+            nextEggTime = lastStepTime + randomIntervalForLayingANewEgg;
         }
     }
 
+    /**
+     * @return the simulation time in ms the chicken lays its next egg at
+     */
+    public long getNextEggTime() {
+        return nextEggTime;
+    }
+
     /**
      * Lays an egg on the current square the chicken is standing on (just if the chicken itself has more than 0 kcal)
      * The calories of the egg are calculated as 1.5 times the current calories of the chicken
@@ -459,48 +487,13 @@ public class Chicken extends EatingMob implements Runnable {
     /**
      * @param currentPosition  the square the chicken is standing on top of
      * @param lookingDirection
-     * @return a list of 8 square which are around the current square + the
-     * direction the chicken is looking in the order:
-     * northwest_square, north_square, northeast_square, east_square,
-     * southeast_square, south_square, southwest_square, west_square,
-     * direction
+     * @return the 25 squares around the current square, row by row from north west to south east,
+     * followed by the direction the chicken is looking in. The list is reused by the next call.
      */
     public synchronized List<String> getSquaresVisibleForChicken(GameMap gameMap, Square currentPosition,
                                                                  Direction lookingDirection) {
-        List<String> squares = new ArrayList<>();
-
-        squares.add(Direction.TWO_NORTH_TWO_WEST.get_two_North_two_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_NORTH_ONE_WEST.get_two_North_one_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_NORTH.get_two_North_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_NORTH_ONE_EAST.get_two_North_one_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_NORTH_TWO_EAST.get_two_North_two_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_NORTH_TWO_WEST.get_one_North_two_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_NORTH_ONE_WEST.get_one_North_one_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_NORTH.get_one_North_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_NORTH_ONE_EAST.get_one_North_one_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_NORTH_TWO_EAST.get_one_North_two_East_Square(gameMap, currentPosition).getPrimaryType());
-
-        squares.add(Direction.TWO_WEST.get_two_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_WEST.get_one_West_Square(gameMap, currentPosition).getPrimaryType());
-
-        squares.add(Direction.CHICKEN.get_Chicken_Square(gameMap, currentPosition).getPrimaryType());
-
-        squares.add(Direction.ONE_EAST.get_one_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_EAST.get_two_East_Square(gameMap, currentPosition).getPrimaryType());
-
-        squares.add(Direction.ONE_SOUTH_TWO_WEST.get_one_South_two_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_SOUTH_ONE_WEST.get_one_South_one_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_SOUTH.get_one_South_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_SOUTH_ONE_EAST.get_one_South_one_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.ONE_SOUTH_TWO_EAST.get_one_South_two_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_SOUTH_TWO_WEST.get_two_South_two_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_SOUTH_ONE_WEST.get_two_South_one_West_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_SOUTH.get_two_South_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_SOUTH_ONE_EAST.get_two_South_one_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(Direction.TWO_SOUTH_TWO_EAST.get_two_South_two_East_Square(gameMap, currentPosition).getPrimaryType());
-        squares.add(lookingDirection.toString());
-
-        return squares;
+        visibleSquares.fill(gameMap, currentPosition.getIndexX(), currentPosition.getIndexZ(), lookingDirection.toString());
+        return visibleSquares;
     }
 
     public void setWalking(boolean walking) {
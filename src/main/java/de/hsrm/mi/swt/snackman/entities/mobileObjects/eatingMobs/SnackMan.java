@@ -11,9 +11,6 @@ import de.hsrm.mi.swt.snackman.entities.map.enums.WallSectionStatus;
 import de.hsrm.mi.swt.snackman.entities.mapObject.snack.Snack;
 import de.hsrm.mi.swt.snackman.entities.mapObject.snack.SnackType;
 import de.hsrm.mi.swt.snackman.entities.mechanics.SprintHandler;
-import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
-import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
-import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
 
 import static de.hsrm.mi.swt.snackman.configuration.GameConfig.DOUBLE_JUMP_CALORIE_COSTS;
 import static de.hsrm.mi.swt.snackman.configuration.GameConfig.SINGLE_JUMP_CALORIE_COSTS;
@@ -282,17 +279,7 @@ public class SnackMan extends EatingMob {
         Square newSquare = gameMap.getSquareAtIndexXZ(calcMapIndexOfCoordinate(super.getPosX()), calcMapIndexOfCoordinate(super.getPosZ()));
 
         if (!oldSquare.equals(newSquare)) {
-            oldSquare.removeMob(this);
-            newSquare.addMob(this);
-        }
-
-        // when snackman runs into a ghost
-        for (Mob mob : newSquare.getMobs()) {
-            if (mob instanceof Ghost || mob instanceof ScriptGhost) {
-                this.isScaredFromGhost(true);
-            } else {
-                this.isScaredFromGhost(false);
-            }
+            oldSquare.moveMob(this, newSquare);
         }
     }
 
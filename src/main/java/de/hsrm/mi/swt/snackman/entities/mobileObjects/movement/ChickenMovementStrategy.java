@@ -0,0 +1,167 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Java implementation of ChickenMovementSkript.py and SonicChickenMovementSkript.py.
+ * The chicken walks to snacks and away from ghosts, otherwise it keeps its walking direction
+ * or chooses a random one, but does not turn back if it has another choice.
+ */
+public class ChickenMovementStrategy implements MovementStrategy<List<String>> {
+
+    private static final String WALL = "W";
+    private static final String CHICKEN = "C";
+    private static final String EMPTY = "L";
+    private static final String SNACK = "S";
+    private static final String GHOST = "G";
+    private static final String SNACKMAN = "SM";
+    private static final String INVALID = "X";
+
+    private static final int NORTH = 0;
+    private static final int EAST = 1;
+    private static final int SOUTH = 2;
+    private static final int WEST = 3;
+
+    private final Random random = new Random();
+    private final int waitingTime;
+
+    /**
+     * @param waitingTime the time in ms the chicken waits between two steps
+     */
+    public ChickenMovementStrategy(int waitingTime) {
+        this.waitingTime = waitingTime;
+    }
+
+    /**
+     * @param squares the 25 squares around the chicken, row by row from north west to south east,
+     *                followed by the direction the chicken is looking in
+     */
+    @Override
+    public int chooseNextSquare(List<String> squares) {
+        String[] options = {
+                option(squares.get(7)),
+                option(squares.get(13)),
+                option(squares.get(17)),
+                option(squares.get(11))
+        };
+        int direction = Integer.parseInt(squares.getLast());
+
+        // make sure you do not walk into a ghost
+        if (allSquaresAre(options, GHOST)) {
+            return chooseRandomSquare(options, GHOST, direction);
+        }
+        // choose square with snack
+        if (allSquaresAre(options, SNACK)) {
+            return chooseRandomSquare(options, SNACK, direction);
+        } else if (anySquareIs(options, SNACK)) {
+            return chooseSnackAwayFromGhost(options, direction);
+        } else if (anySquareIs(options, GHOST)) {
+            return chooseSquareWithoutSnackAwayFromGhost(options, direction);
+        } else {
+            return chooseRandomSquare(options, EMPTY, direction);
+        }
+    }
+
+    @Override
+    public int getWaitingTime() {
+        return waitingTime;
+    }
+
+    /**
+     * Walls can not be walked into, snackman and chickens are treated as empty squares
+     */
+    private String option(String square) {
+        return switch (square) {
+            case WALL -> INVALID;
+            case SNACKMAN, CHICKEN -> EMPTY;
+            default -> square;
+        };
+    }
+
+    private boolean allSquaresAre(String[] options, String target) {
+        for (String option : options) {
+            if (!option.equals(target) && !option.equals(INVALID)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean anySquareIs(String[] options, String target) {
+        for (String option : options) {
+            if (option.equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps the walking direction if its square is the target, otherwise chooses a random square
+     * with the target and avoids turning back. If there is no such square, the chicken turns back.
+     */
+    private int chooseRandomSquare(String[] options, String target, int direction) {
+        if (options[direction].equals(target)) {
+            return direction;
+        }
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < options.length; i++) {
+            if (options[i].equals(target)) {
+                candidates.add(i);
+            }
+        }
+        Integer lastStep = (direction + 2) % 4;
+        if (candidates.size() > 1) {
+            candidates.remove(lastStep);
+        }
+        if (candidates.isEmpty()) {
+            return lastStep;
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private int chooseSnackAwayFromGhost(String[] options, int direction) {
+        if (!anySquareIs(options, GHOST)) {
+            return chooseRandomSquare(options, SNACK, direction);
+        }
+        String north = options[NORTH], east = options[EAST], south = options[SOUTH], west = options[WEST];
+        // a snack in walking direction is taken
+        if (options[direction].equals(SNACK)) {
+            return direction;
+        }
+        // a snack opposite of a ghost is taken
+        if (north.equals(GHOST) && south.equals(SNACK)) {
+            return SOUTH;
+        }
+        if (north.equals(SNACK) && south.equals(GHOST)) {
+            return NORTH;
+        }
+        if (west.equals(GHOST) && east.equals(SNACK)) {
+            return EAST;
+        }
+        if (west.equals(SNACK) && east.equals(GHOST)) {
+            return WEST;
+        }
+        // if ghost and snack are next to each other, a snack is taken
+        if ((north.equals(GHOST) || south.equals(GHOST)) && (east.equals(SNACK) || west.equals(SNACK))
+                || (east.equals(GHOST) || west.equals(GHOST)) && (north.equals(SNACK) || south.equals(SNACK))) {
+            return chooseRandomSquare(options, SNACK, direction);
+        }
+        return chooseSquareWithoutSnackAwayFromGhost(options, direction);
+    }
+
+    private int chooseSquareWithoutSnackAwayFromGhost(String[] options, int direction) {
+        if (options[direction].equals(EMPTY)) {
+            return direction;
+        }
+        if (options[NORTH].equals(GHOST) && options[SOUTH].equals(EMPTY)) {
+            return SOUTH;
+        }
+        if (options[NORTH].equals(EMPTY) && options[SOUTH].equals(GHOST)) {
+            return NORTH;
+        }
+        return chooseRandomSquare(options, EMPTY, direction);
+    }
+}
@@ -0,0 +1,101 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Java implementation of GhostMovementSkript.py, the script ghost with easy difficulty.
+ * The ghost goes after the snackman if it can see him, otherwise it hunts chickens.
+ * If neither is visible, it keeps its walking direction or chooses a random one,
+ * but does not turn back if it has another choice.
+ */
+public class GhostMovementStrategy implements MovementStrategy<List<String>> {
+
+    private static final String WALL = "W";
+    private static final String EMPTY = "L";
+    private static final String SNACK = "S";
+    private static final String GHOST = "G";
+    private static final String CHICKEN = "C";
+    private static final String SNACKMAN = "M";
+    private static final String INVALID = "X";
+
+    private final Random random = new Random();
+
+    /**
+     * @param squares the 8 squares around the ghost clockwise from north west,
+     *                followed by the direction the ghost is looking in
+     * @throws IllegalStateException if the ghost can not walk anywhere
+     */
+    @Override
+    public int chooseNextSquare(List<String> squares) {
+        String[] options = {
+                option(squares.get(1)),
+                option(squares.get(3)),
+                option(squares.get(5)),
+                option(squares.get(7))
+        };
+        int direction = Integer.parseInt(squares.get(8));
+
+        if (anySquareIs(options, SNACKMAN)) {
+            return chooseTargetSquare(options, SNACKMAN, direction);
+        }
+        if (anySquareIs(options, CHICKEN) || allSquaresAreInvalid(options)) {
+            return chooseTargetSquare(options, CHICKEN, direction);
+        }
+        return chooseTargetSquare(options, EMPTY, direction);
+    }
+
+    /**
+     * Walls can not be walked into, ghosts and snacks are treated as empty squares
+     */
+    private String option(String square) {
+        return switch (square) {
+            case WALL -> INVALID;
+            case GHOST, SNACK -> EMPTY;
+            default -> square;
+        };
+    }
+
+    private boolean anySquareIs(String[] options, String target) {
+        for (String option : options) {
+            if (option.equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean allSquaresAreInvalid(String[] options) {
+        for (String option : options) {
+            if (!option.equals(INVALID)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the walking direction if its square is the target, otherwise chooses a random square
+     * with the target and avoids turning back
+     */
+    private int chooseTargetSquare(String[] options, String target, int direction) {
+        if (options[direction].equals(target)) {
+            return direction;
+        }
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < options.length; i++) {
+            if (options[i].equals(target)) {
+                candidates.add(i);
+            }
+        }
+        Integer lastStep = (direction + 2) % 4;
+        if (candidates.size() > 1) {
+            candidates.remove(lastStep);
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("The ghost can not walk anywhere");
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+}
@@ -0,0 +1,63 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.python.core.PyList;
+import org.python.core.PyObject;
+
+import de.hsrm.mi.swt.snackman.services.ScriptEngineService;
+
+/**
+ * Runs a python script from the extensions folder as movement strategy.
+ * The script needs a function choose_next_square, chicken scripts also a function getWaitingTime.
+ *
+ * @param <T> what the mob can see
+ */
+public class JythonMovementStrategy<T> implements MovementStrategy<T> {
+
+    private final String script;
+    private final ScriptEngineService scriptEngineService;
+    private final BiFunction<ScriptEngineService, T, PyObject> converter;
+
+    private JythonMovementStrategy(String script, BiFunction<ScriptEngineService, T, PyObject> converter) {
+        this.script = script;
+        this.scriptEngineService = ScriptEngineService.getInstance();
+        this.converter = converter;
+        scriptEngineService.preload(script);
+    }
+
+    /**
+     * @param script the module name of a script that gets the squares around the mob
+     */
+    public static JythonMovementStrategy<List<String>> forSquares(String script) {
+        return new JythonMovementStrategy<>(script, ScriptEngineService::toPyStringList);
+    }
+
+    /**
+     * @param script the module name of a script that gets the whole map
+     */
+    public static JythonMovementStrategy<List<List<String>>> forMaze(String script) {
+        return new JythonMovementStrategy<>(script, (engine, maze) -> {
+            PyObject[] rows = new PyObject[maze.size()];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = engine.toPyStringList(maze.get(i));
+            }
+            return new PyList(rows);
+        });
+    }
+
+    @Override
+    public int chooseNextSquare(T view) {
+        return scriptEngineService.callForInt(script, "choose_next_square", converter.apply(scriptEngineService, view));
+    }
+
+    @Override
+    public int getWaitingTime() {
+        return scriptEngineService.callForInt(script, "getWaitingTime");
+    }
+
+    public String getScript() {
+        return script;
+    }
+}
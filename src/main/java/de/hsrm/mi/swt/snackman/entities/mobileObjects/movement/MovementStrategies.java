@@ -0,0 +1,48 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import java.util.List;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+
+/**
+ * Chooses the movement strategy for a script name.
+ * The scripts shipped with the game run as Java implementations, all other scripts through Jython.
+ */
+public final class MovementStrategies {
+
+    private MovementStrategies() {
+    }
+
+    /**
+     * @param script the module name of a script that gets the squares around the mob
+     * @return a new strategy for one mob
+     */
+    public static MovementStrategy<List<String>> forSquares(String script) {
+        if (GameConfig.NATIVE_MOVEMENT_STRATEGIES) {
+            switch (script) {
+                case "ChickenMovementSkript":
+                    return new ChickenMovementStrategy(2000);
+                case "SonicChickenMovementSkript":
+                    return new ChickenMovementStrategy(500);
+                case "TalaChickenMovementSkript":
+                    return new TalaChickenMovementStrategy();
+                case GameConfig.GHOST_SCRIPT_EASY:
+                    return new GhostMovementStrategy();
+                default:
+                    break;
+            }
+        }
+        return JythonMovementStrategy.forSquares(script);
+    }
+
+    /**
+     * @param script the module name of a script that gets the whole map
+     * @return a new strategy for one mob
+     */
+    public static MovementStrategy<List<List<String>>> forMaze(String script) {
+        if (GameConfig.NATIVE_MOVEMENT_STRATEGIES && script.equals(GameConfig.GHOST_SCRIPT_HARD)) {
+            return new SmartGhostMovementStrategy();
+        }
+        return JythonMovementStrategy.forMaze(script);
+    }
+}
@@ -0,0 +1,24 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+/**
+ * Decides the next move of a chicken or script ghost.
+ * The shipped behaviours are implemented in Java, custom scripts in the extensions folder
+ * run through {@link JythonMovementStrategy}.
+ *
+ * @param <T> what the mob can see, e.g. the squares around it or the whole map
+ */
+public interface MovementStrategy<T> {
+
+    /**
+     * @param view what the mob can see, in the same form as it is passed to the python scripts
+     * @return the index of the direction to walk to: 0 north, 1 east, 2 south, 3 west
+     */
+    int chooseNextSquare(T view);
+
+    /**
+     * @return the time in ms the mob waits between two steps
+     */
+    default int getWaitingTime() {
+        return 2000;
+    }
+}
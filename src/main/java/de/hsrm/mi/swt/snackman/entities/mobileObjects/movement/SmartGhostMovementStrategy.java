@@ -0,0 +1,120 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Java implementation of SmartGhostMovementSkript.py, the script ghost with hard difficulty.
+ * The ghost searches the shortest path to the snackman with A* and the manhattan distance
+ * and walks the first step of it.
+ */
+public class SmartGhostMovementStrategy implements MovementStrategy<List<List<String>>> {
+
+    private static final String WALL = "W";
+    private static final String GHOST = "G";
+    private static final String SNACKMAN = "M";
+
+    // neighbours in the order the script visits them
+    private static final int[][] NEIGHBOURS = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+
+    /**
+     * @param maze the map with W for walls, G for the ghost and M for the snackman
+     * @throws IllegalStateException if there is no path from the ghost to the snackman
+     */
+    @Override
+    public int chooseNextSquare(List<List<String>> maze) {
+        int[] ghost = findPosition(maze, GHOST);
+        int[] snackman = findPosition(maze, SNACKMAN);
+        List<int[]> path = findPath(maze, ghost, snackman);
+        if (path == null || path.size() < 2) {
+            throw new IllegalStateException("No path from the ghost to the snackman");
+        }
+        int[] firstStep = path.get(1);
+        int direction = (firstStep[0] - ghost[0]) * 2 + (firstStep[1] - ghost[1]);
+        return switch (direction) {
+            case -1 -> 3;
+            case 1 -> 1;
+            case -2 -> 0;
+            case 2 -> 2;
+            default -> throw new IllegalStateException("The first step of the path is not next to the ghost");
+        };
+    }
+
+    /**
+     * @return row and column of the first square with the target, or (0, 0) if there is none
+     */
+    private int[] findPosition(List<List<String>> maze, String target) {
+        for (int row = 0; row < maze.size(); row++) {
+            List<String> cells = maze.get(row);
+            for (int col = 0; col < cells.size(); col++) {
+                if (cells.get(col).equals(target)) {
+                    return new int[]{row, col};
+                }
+            }
+        }
+        return new int[]{0, 0};
+    }
+
+    /**
+     * A* search from start to goal, ties are broken by the position like the heap of the script does
+     *
+     * @return the positions from start to goal or null if the goal can not be reached
+     */
+    private List<int[]> findPath(List<List<String>> maze, int[] start, int[] goal) {
+        int rows = maze.size();
+        int cols = maze.getFirst().size();
+        // nodes are encoded as row * cols + col
+        Map<Integer, Integer> cameFrom = new HashMap<>();
+        Map<Integer, Integer> pathCost = new HashMap<>();
+        // entries are {estimated total cost, row, col}
+        PriorityQueue<int[]> openSet = new PriorityQueue<>(Comparator.<int[]>comparingInt(entry -> entry[0])
+                .thenComparingInt(entry -> entry[1])
+                .thenComparingInt(entry -> entry[2]));
+
+        int startNode = start[0] * cols + start[1];
+        pathCost.put(startNode, 0);
+        openSet.add(new int[]{0, start[0], start[1]});
+
+        while (!openSet.isEmpty()) {
+            int[] current = openSet.poll();
+            int row = current[1];
+            int col = current[2];
+            int currentNode = row * cols + col;
+            if (row == goal[0] && col == goal[1]) {
+                return reconstructPath(cameFrom, currentNode, cols);
+            }
+            for (int[] neighbour : NEIGHBOURS) {
+                int nextRow = row + neighbour[0];
+                int nextCol = col + neighbour[1];
+                if (nextRow < 0 || nextRow >= rows || nextCol < 0 || nextCol >= cols
+                        || maze.get(nextRow).get(nextCol).equals(WALL)) {
+                    continue;
+                }
+                int nextNode = nextRow * cols + nextCol;
+                int cost = pathCost.get(currentNode) + 1;
+                Integer knownCost = pathCost.get(nextNode);
+                if (knownCost == null || cost < knownCost) {
+                    cameFrom.put(nextNode, currentNode);
+                    pathCost.put(nextNode, cost);
+                    int estimate = cost + Math.abs(nextRow - goal[0]) + Math.abs(nextCol - goal[1]);
+                    openSet.add(new int[]{estimate, nextRow, nextCol});
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<int[]> reconstructPath(Map<Integer, Integer> cameFrom, int node, int cols) {
+        LinkedList<int[]> path = new LinkedList<>();
+        Integer current = node;
+        while (current != null) {
+            path.addFirst(new int[]{current / cols, current % cols});
+            current = cameFrom.get(current);
+        }
+        return path;
+    }
+}
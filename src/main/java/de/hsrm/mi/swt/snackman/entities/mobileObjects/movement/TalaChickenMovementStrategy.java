@@ -0,0 +1,101 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Java implementation of TalaChickenMovementSkript.py.
+ * The chicken walks towards the snackman and away from ghosts it can see within two squares,
+ * otherwise it walks to a snack or a random square that is not a wall.
+ */
+public class TalaChickenMovementStrategy implements MovementStrategy<List<String>> {
+
+    private static final String WALL = "W";
+    private static final String SNACK = "S";
+    private static final String GHOST = "G";
+    private static final String SNACKMAN = "SM";
+
+    // indexes of the 25 squares around the chicken that are visible in each direction
+    private static final int[] NORTH_SQUARES = {7, 2, 1, 3, 6, 8};
+    private static final int[] SOUTH_SQUARES = {17, 22, 21, 23, 16, 18};
+    private static final int[] WEST_SQUARES = {11, 0, 5, 10, 15, 20};
+    private static final int[] EAST_SQUARES = {13, 4, 9, 14, 19, 24};
+    private static final int ONE_NORTH = 7, ONE_EAST = 13, ONE_SOUTH = 17, ONE_WEST = 11;
+    private static final int TWO_NORTH = 2, TWO_EAST = 14, TWO_SOUTH = 22, TWO_WEST = 10;
+
+    private final Random random = new Random();
+
+    /**
+     * @param squares the 25 squares around the chicken, row by row from north west to south east,
+     *                followed by the direction the chicken is looking in
+     */
+    @Override
+    public int chooseNextSquare(List<String> squares) {
+        if (squares.contains(SNACKMAN)) {
+            if (sees(squares, NORTH_SQUARES, SNACKMAN) && !squares.get(ONE_NORTH).equals(WALL)) {
+                return 0;
+            }
+            if (sees(squares, SOUTH_SQUARES, SNACKMAN) && !squares.get(ONE_SOUTH).equals(WALL)) {
+                return 2;
+            }
+            if (sees(squares, WEST_SQUARES, SNACKMAN) && !squares.get(ONE_WEST).equals(WALL)) {
+                return 3;
+            }
+            if (sees(squares, EAST_SQUARES, SNACKMAN) && !squares.get(ONE_EAST).equals(WALL)) {
+                return 1;
+            }
+        } else if (squares.contains(GHOST)) {
+            if (sees(squares, NORTH_SQUARES, GHOST) && !squares.get(ONE_NORTH).equals(WALL)) {
+                return 2;
+            }
+            if (sees(squares, SOUTH_SQUARES, GHOST) && !squares.get(ONE_SOUTH).equals(WALL)) {
+                return 0;
+            }
+            if (sees(squares, WEST_SQUARES, GHOST) && !squares.get(ONE_WEST).equals(WALL)) {
+                return 1;
+            }
+            if (sees(squares, EAST_SQUARES, GHOST) && !squares.get(ONE_EAST).equals(WALL)) {
+                return 3;
+            }
+        } else {
+            if (seesSnack(squares, ONE_NORTH, TWO_NORTH)) {
+                return 0;
+            }
+            if (seesSnack(squares, ONE_EAST, TWO_EAST)) {
+                return 1;
+            }
+            if (seesSnack(squares, ONE_SOUTH, TWO_SOUTH)) {
+                return 2;
+            }
+            if (seesSnack(squares, ONE_WEST, TWO_WEST)) {
+                return 3;
+            }
+        }
+
+        int[] neighbours = {ONE_NORTH, ONE_EAST, ONE_SOUTH, ONE_WEST};
+        int newIndex = 0;
+        if (squares.get(ONE_NORTH).equals(WALL) && squares.get(ONE_EAST).equals(WALL)
+                && squares.get(ONE_SOUTH).equals(WALL) && squares.get(ONE_WEST).equals(WALL)) {
+            // the script would search forever, a walled in chicken just keeps looking north
+            return newIndex;
+        }
+        while (squares.get(neighbours[newIndex]).equals(WALL)) {
+            newIndex = random.nextInt(4);
+        }
+        return newIndex;
+    }
+
+    private boolean sees(List<String> squares, int[] indexes, String target) {
+        for (int index : indexes) {
+            if (squares.get(index).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean seesSnack(List<String> squares, int oneSquare, int twoSquares) {
+        return squares.get(twoSquares).equals(SNACK) && !squares.get(oneSquare).equals(WALL)
+                || squares.get(oneSquare).equals(SNACK);
+    }
+}
@@ -27,7 +27,7 @@ public class FrontendMessageService {
     public void sendLobbyEvent(FrontendLobbyMessageEvent ev) {
         log.debug("Send Event: lobbies {}", ev.lobbies().toString());
 
-        messagingTemplate.convertAndSend("/topic/lobbies", ev.lobbies());
+        messagingTemplate.convertAndSend("/topic/lobbies", ev.lobbies(), OutboundBackpressureDecoratorFactory.snapshot());
     }
 
     public void sendChooseEvent(FrontendChooseRoleEvent ev) {
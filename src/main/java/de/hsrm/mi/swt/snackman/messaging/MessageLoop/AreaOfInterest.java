@@ -0,0 +1,72 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+
+/**
+ * Decides per player of a lobby which environment changes are sent in a tick.
+ * Changes within {@link GameConfig#AOI_RADIUS} squares around the player are sent immediately,
+ * changes further away are collected and sent every {@link GameConfig#AOI_FAR_UPDATE_INTERVAL} ticks.
+ */
+public class AreaOfInterest {
+
+    // playerId -> changes outside of the area of the player, by key of the entity
+    private final Map<String, Map<String, EnvironmentChange>> pendingChanges = new HashMap<>();
+    private int ticksSinceFarUpdate = 0;
+
+    /**
+     * Distributes the changes of one tick to the players of a lobby.
+     *
+     * @param players the player mobs of the lobby by player id
+     * @param changes the changes of this tick
+     * @return the messages to send to each player, players without messages are left out
+     */
+    public Map<String, List<Message>> distribute(Map<String, Mob> players, List<EnvironmentChange> changes) {
+        boolean flushFar = ++ticksSinceFarUpdate >= GameConfig.AOI_FAR_UPDATE_INTERVAL;
+        if (flushFar) {
+            ticksSinceFarUpdate = 0;
+        }
+        pendingChanges.keySet().retainAll(players.keySet());
+
+        // the message of a change is created once and shared by all players close to it
+        Map<String, Message> createdMessages = new HashMap<>();
+        Map<String, List<Message>> messagesPerPlayer = new HashMap<>();
+
+        for (Map.Entry<String, Mob> player : players.entrySet()) {
+            int playerX = player.getValue().calcMapIndexOfCoordinate(player.getValue().getPosX());
+            int playerZ = player.getValue().calcMapIndexOfCoordinate(player.getValue().getPosZ());
+            Map<String, EnvironmentChange> pending = pendingChanges.computeIfAbsent(player.getKey(), id -> new LinkedHashMap<>());
+            List<Message> messages = new ArrayList<>();
+
+            for (EnvironmentChange change : changes) {
+                if (isInArea(change, playerX, playerZ)) {
+                    pending.remove(change.key());
+                    messages.add(createdMessages.computeIfAbsent(change.key(), key -> change.message().get()));
+                } else {
+                    pending.put(change.key(), change);
+                }
+            }
+            if (flushFar && !pending.isEmpty()) {
+                for (EnvironmentChange change : pending.values()) {
+                    messages.add(createdMessages.computeIfAbsent(change.key(), key -> change.message().get()));
+                }
+                pending.clear();
+            }
+            if (!messages.isEmpty()) {
+                messagesPerPlayer.put(player.getKey(), messages);
+            }
+        }
+        return messagesPerPlayer;
+    }
+
+    private boolean isInArea(EnvironmentChange change, int playerX, int playerZ) {
+        return Math.abs(change.indexX() - playerX) <= GameConfig.AOI_RADIUS
+                && Math.abs(change.indexZ() - playerZ) <= GameConfig.AOI_RADIUS;
+    }
+}
@@ -0,0 +1,163 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import de.hsrm.mi.swt.snackman.controller.Square.SquareDTO;
+import de.hsrm.mi.swt.snackman.entities.lobby.GameEndDTO;
+import org.joml.Quaterniond;
+import org.joml.Vector3d;
+
+/**
+ * Encodes the updates of a lobby into a compact little-endian binary frame.
+ * Clients subscribed to {@code /topic/lobbies/{lobbyId}/update/binary} receive this
+ * format, everyone else keeps receiving the JSON list of {@link Message}s.
+ * <p>
+ * Layout of a frame:
+ * <pre>
+ * u8  version
+ * u16 amount of messages
+ * per message: u8 ordinal of the {@link EventEnum}, followed by the payload of the event
+ * </pre>
+ * Vectors and quaternions are written as f32, enums as u8 ordinal, ids as i64
+ * and strings as u16 byte length followed by UTF-8 (length 0xFFFF for null).
+ */
+public class BinaryUpdateEncoder {
+
+    public static final byte VERSION = 2;
+    private static final int NULL_STRING = 0xFFFF;
+
+    private BinaryUpdateEncoder() {
+    }
+
+    public static byte[] encode(List<Message> messages) {
+        FrameWriter writer = new FrameWriter();
+        writer.putByte(VERSION);
+        writer.putShort(messages.size());
+        for (Message message : messages) {
+            writer.putByte(message.event().ordinal());
+            switch (message.message()) {
+                case MobUpdateMessage mob -> {
+                    writer.putVector(mob.position());
+                    writer.putQuaternion(mob.rotation());
+                    writer.putFloat(mob.radius());
+                    writer.putFloat(mob.speed());
+                    writer.putString(mob.playerId());
+                    writer.putInt(mob.sprintTimeLeft());
+                    writer.putByte((mob.isSprinting() ? 1 : 0) | (mob.isInCooldown() ? 2 : 0) | (mob.isScared() ? 4 : 0));
+                    writer.putInt(mob.calories());
+                    writer.putString(mob.message());
+                    writer.putLong(mob.lastProcessedInput());
+                }
+                case GhostUpdateMessage ghost -> {
+                    writer.putVector(ghost.position());
+                    writer.putQuaternion(ghost.rotation());
+                    writer.putFloat(ghost.radius());
+                    writer.putFloat(ghost.speed());
+                    writer.putString(ghost.playerId());
+                    writer.putLong(ghost.lastProcessedInput());
+                }
+                case SquareUpdateMessage squareUpdate -> {
+                    SquareDTO square = squareUpdate.square();
+                    writer.putLong(square.id());
+                    writer.putInt(square.indexX());
+                    writer.putInt(square.indexZ());
+                    writer.putByte(square.type().ordinal());
+                    writer.putByte(square.snack().snackType().ordinal());
+                }
+                case ChickenUpdateMessage chicken -> {
+                    writer.putLong(chicken.id());
+                    writer.putInt(chicken.chickenPosX());
+                    writer.putInt(chicken.chickenPosZ());
+                    writer.putByte(chicken.thickness().ordinal());
+                    writer.putByte(chicken.lookingDirection().ordinal());
+                    writer.putByte(chicken.isScared() ? 1 : 0);
+                }
+                case ScriptGhostDTO scriptGhost -> {
+                    writer.putLong(scriptGhost.id());
+                    writer.putInt(scriptGhost.scriptGhostPosX());
+                    writer.putInt(scriptGhost.scriptGhostPosZ());
+                    writer.putByte(scriptGhost.lookingDirection().ordinal());
+                }
+                case GameEndDTO gameEnd -> {
+                    writer.putByte(gameEnd.role().ordinal());
+                    writer.putLong(gameEnd.timePlayed());
+                    writer.putInt(gameEnd.kcalCollected());
+                    writer.putString(gameEnd.lobbyId());
+                }
+                default -> throw new IllegalArgumentException("Unexpected message: " + message.message());
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Small growable little-endian buffer, so the frame size does not have to be known in advance
+     */
+    private static class FrameWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        private final ByteBuffer scratch = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        void putByte(int value) {
+            out.write(value);
+        }
+
+        void putShort(int value) {
+            scratch.clear();
+            scratch.putShort((short) value);
+            flushScratch();
+        }
+
+        void putInt(int value) {
+            scratch.clear();
+            scratch.putInt(value);
+            flushScratch();
+        }
+
+        void putLong(long value) {
+            scratch.clear();
+            scratch.putLong(value);
+            flushScratch();
+        }
+
+        void putFloat(double value) {
+            scratch.clear();
+            scratch.putFloat((float) value);
+            flushScratch();
+        }
+
+        void putVector(Vector3d vector) {
+            putFloat(vector.x);
+            putFloat(vector.y);
+            putFloat(vector.z);
+        }
+
+        void putQuaternion(Quaterniond quaternion) {
+            putFloat(quaternion.x);
+            putFloat(quaternion.y);
+            putFloat(quaternion.z);
+            putFloat(quaternion.w);
+        }
+
+        void putString(String value) {
+            if (value == null) {
+                putShort(NULL_STRING);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putShort(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void flushScratch() {
+            out.write(scratch.array(), 0, scratch.position());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Set of entities that changed since the last tick, deduplicated by their id.
+ * Entities can be added from any thread without locking the whole set.
+ * An entity added several times before the next drain is only sent once,
+ * with the state it has when the tick reads it.
+ *
+ * @param <T> the type of the changed entities
+ */
+public class ChangeSet<T> {
+
+    private final Map<Long, T> changes = new ConcurrentHashMap<>();
+    private final ToLongFunction<T> idOf;
+
+    public ChangeSet(ToLongFunction<T> idOf) {
+        this.idOf = idOf;
+    }
+
+    public void add(T entity) {
+        changes.put(idOf.applyAsLong(entity), entity);
+    }
+
+    /**
+     * Removes all changed entities from the set and returns them.
+     * Every entry is removed on its own, so an entity added while draining
+     * is either part of the result or stays in the set for the next tick.
+     *
+     * @return the changed entities, empty if nothing changed
+     */
+    public List<T> drain() {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        List<T> drained = new ArrayList<>(changes.size());
+        for (Long id : changes.keySet()) {
+            T entity = changes.remove(id);
+            if (entity != null) {
+                drained.add(entity);
+            }
+        }
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.function.Supplier;
+
+import de.hsrm.mi.swt.snackman.controller.Square.SquareDTO;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
+
+/**
+ * A changed entity of the environment (square, chicken or script ghost) with its position on the map.
+ * The message is created lazily, so a change sent later contains the state of the entity at that time.
+ *
+ * @param key     unique key of the entity within its lobby
+ * @param indexX  x index of the square the entity is on
+ * @param indexZ  z index of the square the entity is on
+ * @param message creates the update message for the entity
+ */
+public record EnvironmentChange(String key, int indexX, int indexZ, Supplier<Message> message) {
+
+    public static EnvironmentChange fromSquare(Square square) {
+        return new EnvironmentChange("square-" + square.getId(), square.getIndexX(), square.getIndexZ(),
+                () -> new Message<>(EventEnum.SquareUpdate, new SquareUpdateMessage(SquareDTO.fromSquare(square))));
+    }
+
+    public static EnvironmentChange fromChicken(Chicken chicken) {
+        return new EnvironmentChange("chicken-" + chicken.getId(), chicken.getChickenPosX(), chicken.getChickenPosZ(),
+                () -> new Message<>(EventEnum.ChickenUpdate, ChickenUpdateMessage.fromChicken(chicken)));
+    }
+
+    public static EnvironmentChange fromScriptGhost(ScriptGhost scriptGhost) {
+        return new EnvironmentChange("scriptGhost-" + scriptGhost.getId(), scriptGhost.getGhostPosX(), scriptGhost.getGhostPosZ(),
+                () -> new Message<>(EventEnum.ScriptGhostUpdate, ScriptGhostDTO.fromScriptGhost(scriptGhost)));
+    }
+}
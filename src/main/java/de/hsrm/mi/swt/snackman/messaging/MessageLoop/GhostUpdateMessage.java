@@ -5,9 +5,10 @@ import org.joml.Quaterniond;
 import org.joml.Vector3d;
 
 public record GhostUpdateMessage(Vector3d position, Quaterniond rotation, double radius, double speed,
-                                 String playerId) {
+                                 String playerId, long lastProcessedInput) {
 
-    public static GhostUpdateMessage fromGhost(Ghost ghost, String playerId) {
-        return new GhostUpdateMessage(ghost.getPosition(), ghost.getRotationQuaternion(), ghost.getRadius(), ghost.getSpeed(), playerId);
+    public static GhostUpdateMessage fromGhost(Ghost ghost, String playerId, long lastProcessedInput) {
+        return new GhostUpdateMessage(ghost.getPosition(), ghost.getRotationQuaternion(), ghost.getRadius(), ghost.getSpeed(), playerId,
+                lastProcessedInput);
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the movement scripts of the chickens and script ghosts of one lobby
+ * on the AI thread pool shared by all lobbies.
+ * When the lobby ends, {@link #cancel()} stops all of its scripts that did not run yet.
+ */
+public class LobbyAiExecutor implements Executor {
+
+    private final ExecutorService sharedExecutor;
+    private final Set<FutureTask<?>> pendingTasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled = false;
+
+    public LobbyAiExecutor(ExecutorService sharedExecutor) {
+        this.sharedExecutor = sharedExecutor;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (cancelled) {
+            throw new RejectedExecutionException("The AI of the lobby was cancelled");
+        }
+        FutureTask<Void> task = new FutureTask<>(command, null) {
+            @Override
+            protected void done() {
+                pendingTasks.remove(this);
+            }
+        };
+        pendingTasks.add(task);
+        sharedExecutor.execute(task);
+        if (cancelled) {
+            // cancel() ran while the task was submitted
+            task.cancel(true);
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        for (FutureTask<?> task : pendingTasks) {
+            task.cancel(true);
+        }
+        pendingTasks.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int getPendingTasks() {
+        return pendingTasks.size();
+    }
+}
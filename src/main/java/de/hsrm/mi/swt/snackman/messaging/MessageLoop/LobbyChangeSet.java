@@ -0,0 +1,54 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import de.hsrm.mi.swt.snackman.entities.lobby.GameEnd;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
+
+/**
+ * All changes of one lobby that still have to be sent by the {@link MessageLoop}.
+ * Changed squares are tracked by the {@link de.hsrm.mi.swt.snackman.entities.map.GameMap} itself.
+ */
+public class LobbyChangeSet {
+
+    private final ChangeSet<Chicken> chickens = new ChangeSet<>(Chicken::getId);
+    private final ChangeSet<ScriptGhost> scriptGhosts = new ChangeSet<>(ScriptGhost::getId);
+    // game ends are events and not entity states, so they are queued and never merged
+    private final Queue<GameEnd> gameEnds = new ConcurrentLinkedQueue<>();
+
+    public ChangeSet<Chicken> getChickens() {
+        return chickens;
+    }
+
+    public ChangeSet<ScriptGhost> getScriptGhosts() {
+        return scriptGhosts;
+    }
+
+    /**
+     * Queues the end of a game
+     *
+     * @return true if another game end was already waiting to be sent
+     */
+    public boolean addGameEnd(GameEnd gameEnd) {
+        boolean alreadyPending = !gameEnds.isEmpty();
+        gameEnds.add(gameEnd);
+        return alreadyPending;
+    }
+
+    public boolean hasGameEnd() {
+        return !gameEnds.isEmpty();
+    }
+
+    public List<GameEnd> drainGameEnds() {
+        List<GameEnd> drained = new ArrayList<>();
+        GameEnd gameEnd;
+        while ((gameEnd = gameEnds.poll()) != null) {
+            drained.add(gameEnd);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,228 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.controller.PlayerMovement.PlayerInputDTO;
+import de.hsrm.mi.swt.snackman.entities.lobby.EntityRegistry;
+import de.hsrm.mi.swt.snackman.entities.lobby.Lobby;
+import de.hsrm.mi.swt.snackman.entities.lobby.ROLE;
+import de.hsrm.mi.swt.snackman.entities.map.SpatialHash;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+/**
+ * Fixed timestep simulation of one lobby, advanced by the tick of the {@link MessageLoop}.
+ * Player inputs are only queued by the STOMP handlers and applied here, so all mobs of a lobby
+ * are changed by the thread running the tick of the lobby.
+ * Every step covers {@link GameConfig#SIMULATION_STEP} ms of game time and updates the player mobs
+ * ordered by player id, then the chickens and then the script ghosts.
+ * The movement scripts of chickens and script ghosts run on the given executor, a mob waits
+ * for its script in the following steps instead of blocking the tick.
+ * At the end of every step all ghosts are put into a spatial hash, a snackman or chicken
+ * whose circle overlaps a ghost has met it.
+ */
+public class LobbySimulation {
+
+    private final Map<String, PlayerInputQueue> inputQueues = new ConcurrentHashMap<>();
+    // input of a player that is applied again in the following steps, until it is too old
+    private final Map<String, PlayerInputDTO> heldInputs = new HashMap<>();
+    private final Map<String, Integer> heldInputAge = new HashMap<>();
+    private long simulationTime = 0;
+    private long lastAdvanceTime = -1;
+    private long unsimulatedTime = 0;
+    private final Executor aiExecutor;
+    private final SpatialHash<Mob> ghosts = new SpatialHash<>(GameConfig.SQUARE_SIZE);
+    // chickens that touched a ghost in the last step, they are only scared when the contact begins
+    private final Set<Chicken> chickensTouchingGhost = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a simulation that runs the movement scripts of its mobs directly in the step
+     */
+    public LobbySimulation() {
+        this(Runnable::run);
+    }
+
+    /**
+     * @param aiExecutor runs the movement scripts of the chickens and script ghosts
+     */
+    public LobbySimulation(Executor aiExecutor) {
+        this.aiExecutor = aiExecutor;
+    }
+
+    public void queueInput(String playerId, List<PlayerInputDTO> inputs) {
+        getInputQueue(playerId).offer(inputs);
+    }
+
+    public void queueInput(String playerId, PlayerInputDTO input) {
+        getInputQueue(playerId).offer(input);
+    }
+
+    /**
+     * Runs as many steps as fit into the time passed since the last call.
+     * If the lobby fell behind more than {@link GameConfig#MAX_SIMULATION_STEPS_PER_TICK} steps,
+     * the rest of the time is skipped instead of catching up.
+     *
+     * @param lobby the lobby to simulate
+     * @param now   the current time in ms
+     * @return the number of steps that were run
+     */
+    public int advance(Lobby lobby, long now) {
+        if (lastAdvanceTime < 0) {
+            // the first call always runs one step
+            lastAdvanceTime = now - GameConfig.SIMULATION_STEP;
+        }
+        unsimulatedTime += now - lastAdvanceTime;
+        lastAdvanceTime = now;
+
+        int steps = (int) Math.min(unsimulatedTime / GameConfig.SIMULATION_STEP, GameConfig.MAX_SIMULATION_STEPS_PER_TICK);
+        if (steps == GameConfig.MAX_SIMULATION_STEPS_PER_TICK) {
+            unsimulatedTime = 0;
+        } else {
+            unsimulatedTime -= (long) steps * GameConfig.SIMULATION_STEP;
+        }
+        for (int i = 0; i < steps && !lobby.isGameFinished(); i++) {
+            step(lobby, i == 0);
+        }
+        return steps;
+    }
+
+    /**
+     * Advances the lobby by exactly one step
+     *
+     * @param lobby         the lobby to simulate
+     * @param consumeInputs whether the queued player inputs are applied in this step
+     */
+    public void step(Lobby lobby, boolean consumeInputs) {
+        double delta = GameConfig.SIMULATION_STEP / 1000.0;
+
+        for (Map.Entry<String, Mob> entry : lobby.getClientMobMap().entrySet()) {
+            String playerId = entry.getKey();
+            PlayerInputDTO input = consumeInputs ? consumeInput(lobby, playerId) : heldInput(playerId);
+            Mob mob = entry.getValue();
+            if (mob instanceof SnackMan snackManMob) {
+                if (input != null) {
+                    if (input.jump()) {
+                        if (input.doubleJump()) {
+                            snackManMob.doubleJump();
+                        } else {
+                            snackManMob.jump();
+                        }
+                    }
+                    snackManMob.setSprinting(input.sprinting());
+                }
+                snackManMob.updateJumpPosition(delta);
+            } else if (!(mob instanceof Ghost)) {
+                throw new IllegalStateException("Unexpected value: " + mob);
+            }
+            if (input != null) {
+                mob.setQuaternion(input.qX(), input.qY(), input.qZ(), input.qW());
+                mob.move(input.forward(), input.backward(), input.left(), input.right(), delta, lobby.getGameMap());
+            }
+        }
+
+        for (Chicken chicken : lobby.getChickens()) {
+            chicken.step(simulationTime, aiExecutor);
+        }
+        for (ScriptGhost scriptGhost : lobby.getScriptGhosts()) {
+            scriptGhost.step(simulationTime, aiExecutor);
+        }
+        simulationTime += GameConfig.SIMULATION_STEP;
+        resolveEncounters(lobby);
+
+        SnackMan snackMan = lobby.getSnackman();
+        if (snackMan != null) {
+            checkWinningCondition(snackMan, lobby);
+        }
+    }
+
+    /**
+     * Finds the snackman and the chickens that overlap a player ghost or script ghost.
+     * Chickens and script ghosts stand in the center of their square and fill it.
+     */
+    private void resolveEncounters(Lobby lobby) {
+        EntityRegistry entities = lobby.getEntities();
+        ghosts.clear();
+        for (Ghost ghost : entities.getPlayerGhosts()) {
+            ghosts.insert(ghost, ghost.getPosX(), ghost.getPosZ(), ghost.getRadius());
+        }
+        for (ScriptGhost scriptGhost : entities.getScriptGhosts()) {
+            ghosts.insert(scriptGhost, squareCenter(scriptGhost.getGhostPosX()), squareCenter(scriptGhost.getGhostPosZ()),
+                    GameConfig.SQUARE_MOB_RADIUS);
+        }
+
+        SnackMan snackMan = entities.getSnackMan();
+        if (snackMan != null) {
+            snackMan.isScaredFromGhost(!ghosts.findOverlapping(snackMan.getPosX(), snackMan.getPosZ(), snackMan.getRadius()).isEmpty());
+        }
+        for (Chicken chicken : entities.getChickens()) {
+            boolean touching = !ghosts.findOverlapping(squareCenter(chicken.getChickenPosX()),
+                    squareCenter(chicken.getChickenPosZ()), GameConfig.SQUARE_MOB_RADIUS).isEmpty();
+            if (!touching) {
+                chickensTouchingGhost.remove(chicken);
+            } else if (chickensTouchingGhost.add(chicken)) {
+                chicken.isScaredFromGhost(true);
+            }
+        }
+    }
+
+    private static double squareCenter(int index) {
+        return (index + 0.5) * GameConfig.SQUARE_SIZE;
+    }
+
+    public long getSimulationTime() {
+        return simulationTime;
+    }
+
+    private PlayerInputDTO consumeInput(Lobby lobby, String playerId) {
+        PlayerInputQueue queue = inputQueues.get(playerId);
+        PlayerInputDTO input = queue == null ? null : queue.drain();
+        if (input == null) {
+            return heldInput(playerId);
+        }
+        if (input.seq() != 0) {
+            lobby.setLastProcessedInput(playerId, input.seq());
+        }
+        // keys stay pressed until the next input arrives, jumps only happen once
+        heldInputs.put(playerId, new PlayerInputDTO(input.seq(), input.forward(), input.backward(), input.left(),
+                input.right(), false, false, input.qX(), input.qY(), input.qZ(), input.qW(), input.delta(),
+                input.sprinting()));
+        heldInputAge.put(playerId, 0);
+        return input;
+    }
+
+    private PlayerInputDTO heldInput(String playerId) {
+        PlayerInputDTO held = heldInputs.get(playerId);
+        if (held == null) {
+            return null;
+        }
+        if (heldInputAge.merge(playerId, 1, Integer::sum) > GameConfig.INPUT_HOLD_STEPS) {
+            // the client stopped sending, its mob must not keep walking
+            heldInputs.remove(playerId);
+            return null;
+        }
+        return held;
+    }
+
+    private PlayerInputQueue getInputQueue(String playerId) {
+        return inputQueues.computeIfAbsent(playerId, id -> new PlayerInputQueue());
+    }
+
+    private void checkWinningCondition(SnackMan snackMan, Lobby lobby) {
+        if (snackMan.getKcal() < 0) {
+            lobby.endGame(ROLE.GHOST);
+        } else if (snackMan.getKcal() >= GameConfig.SNACKMAN_MAX_CALORIES) {
+            lobby.endGame(ROLE.SNACKMAN);
+        }
+    }
+}
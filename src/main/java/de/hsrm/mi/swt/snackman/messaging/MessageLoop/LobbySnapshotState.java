@@ -0,0 +1,48 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+
+/**
+ * Remembers per lobby which state of every player mob was sent last,
+ * so that the {@link MessageLoop} only has to send mobs that changed.
+ * Every {@link GameConfig#SNAPSHOT_KEYFRAME_INTERVAL} ticks a keyframe
+ * with all mobs is sent, so clients that missed an update catch up.
+ */
+public class LobbySnapshotState {
+
+    private final Map<String, MobSnapshot> lastSentSnapshots = new HashMap<>();
+    private int ticksSinceKeyframe = GameConfig.SNAPSHOT_KEYFRAME_INTERVAL;
+
+    /**
+     * Advances the tick counter of the lobby.
+     *
+     * @return true if all mobs have to be sent in this tick
+     */
+    public boolean nextTick() {
+        ticksSinceKeyframe++;
+        if (ticksSinceKeyframe >= GameConfig.SNAPSHOT_KEYFRAME_INTERVAL) {
+            ticksSinceKeyframe = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the mob of a client has to be sent and remembers the snapshot if so.
+     *
+     * @param client   the id of the client controlling the mob
+     * @param snapshot the current state of the mob
+     * @param keyframe true if the mob has to be sent regardless of changes
+     * @return true if the mob has to be sent
+     */
+    public boolean shouldSend(String client, MobSnapshot snapshot, boolean keyframe) {
+        if (!keyframe && !snapshot.differsFrom(lastSentSnapshots.get(client))) {
+            return false;
+        }
+        lastSentSnapshots.put(client, snapshot);
+        return true;
+    }
+}
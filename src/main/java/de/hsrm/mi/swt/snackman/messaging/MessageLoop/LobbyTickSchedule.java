@@ -0,0 +1,64 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+
+/**
+ * Decides which parts of a lobby are updated in a tick of the {@link MessageLoop}.
+ * Player mobs are sent every tick, environment entities (squares, chickens, script ghosts)
+ * only every few ticks because they change much slower.
+ * A lobby without player input for a while only ticks at a reduced rate.
+ */
+public class LobbyTickSchedule {
+
+    private final int environmentTickInterval;
+    private final int idleTickInterval;
+    private final long idleTimeout;
+    private long tick = -1;
+    private boolean environmentTick;
+    private boolean idle;
+
+    public LobbyTickSchedule() {
+        this(GameConfig.ENVIRONMENT_TICK_INTERVAL, GameConfig.IDLE_TICK_INTERVAL, GameConfig.LOBBY_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param environmentTickInterval ticks between two environment updates of an active lobby
+     * @param idleTickInterval        ticks between two updates of an idle lobby
+     * @param idleTimeout             ms without input after which a lobby counts as idle
+     */
+    public LobbyTickSchedule(int environmentTickInterval, int idleTickInterval, long idleTimeout) {
+        this.environmentTickInterval = environmentTickInterval;
+        this.idleTickInterval = idleTickInterval;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Advances the schedule by one tick
+     *
+     * @param lastInputTime time of the last player input of the lobby in ms
+     * @param now           current time in ms
+     * @return true if the lobby has to be updated in this tick
+     */
+    public synchronized boolean nextTick(long lastInputTime, long now) {
+        tick++;
+        idle = now - lastInputTime > idleTimeout;
+        if (idle) {
+            // an idle lobby updates everything, but rarely
+            environmentTick = true;
+            return tick % idleTickInterval == 0;
+        }
+        environmentTick = tick % environmentTickInterval == 0;
+        return true;
+    }
+
+    /**
+     * @return true if environment entities are updated in the current tick
+     */
+    public synchronized boolean isEnvironmentTick() {
+        return environmentTick;
+    }
+
+    public synchronized boolean isIdle() {
+        return idle;
+    }
+}
@@ -0,0 +1,57 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+/**
+ * Duration statistics of the ticks of one lobby in the {@link MessageLoop}.
+ * Written by the tick of the lobby only, read by anybody.
+ */
+public class LobbyTickStats {
+
+    private volatile long tickCount = 0;
+    private volatile long skippedTicks = 0;
+    private volatile long failedTicks = 0;
+    private volatile long lastTickNanos = 0;
+    private volatile long maxTickNanos = 0;
+    private volatile long totalTickNanos = 0;
+
+    public synchronized void recordTick(long durationNanos, boolean failed) {
+        tickCount++;
+        if (failed) {
+            failedTicks++;
+        }
+        lastTickNanos = durationNanos;
+        maxTickNanos = Math.max(maxTickNanos, durationNanos);
+        totalTickNanos += durationNanos;
+    }
+
+    /**
+     * Counts a tick that was not started because the previous tick of the lobby was still running
+     */
+    public synchronized void recordSkippedTick() {
+        skippedTicks++;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    public long getFailedTicks() {
+        return failedTicks;
+    }
+
+    public double getLastTickMillis() {
+        return lastTickNanos / 1_000_000.0;
+    }
+
+    public double getMaxTickMillis() {
+        return maxTickNanos / 1_000_000.0;
+    }
+
+    public double getAverageTickMillis() {
+        long count = tickCount;
+        return count == 0 ? 0 : totalTickNanos / 1_000_000.0 / count;
+    }
+}
@@ -0,0 +1,106 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import de.hsrm.mi.swt.snackman.messaging.OutboundBackpressureDecoratorFactory;
+
+/**
+ * Sends the updates of a lobby to its clients.
+ * Updates for all players are sent on {@code /topic/lobbies/{lobbyId}/update},
+ * updates for a single player on the user destination {@code /user/queue/lobbies/{lobbyId}/update},
+ * which only reaches the sessions of that player.
+ * JSON is sent on these destinations, the binary format of
+ * {@link BinaryUpdateEncoder} on the same destinations followed by {@code /binary}.
+ * Each format is only serialized if a client subscribed to it, JSON is
+ * always sent when nobody subscribed to the binary format.
+ * Updates that only contain player mob states may be dropped for a lagging client
+ * once a keyframe with the states of all player mobs is queued, see {@link OutboundBackpressureDecoratorFactory}.
+ */
+@Service
+public class LobbyUpdatePublisher {
+
+    public static final String BINARY_SUFFIX = "/binary";
+    private static final String USER_PREFIX = "/user";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+    @Autowired
+    private UpdateSubscriptionRegistry subscriptionRegistry;
+
+    public void publish(String lobbyId, List<Message> messages) {
+        publish(lobbyId, messages, false);
+    }
+
+    /**
+     * @param keyframe true if the messages contain the states of all player mobs of the lobby
+     */
+    public void publish(String lobbyId, List<Message> messages, boolean keyframe) {
+        publishTo(null, "/topic/lobbies/" + lobbyId + "/update", messages, keyframe);
+    }
+
+    public void publishToPlayer(String lobbyId, String playerId, List<Message> messages) {
+        publishTo(playerId, "/queue/lobbies/" + lobbyId + "/update", messages, false);
+    }
+
+    /**
+     * @param playerId    the player to send the messages to or null to send them to every subscriber
+     * @param destination the destination, for a player without the user prefix
+     * @param messages    the messages to send
+     * @param keyframe    true if the messages contain the states of all player mobs of the lobby
+     */
+    private void publishTo(String playerId, String destination, List<Message> messages, boolean keyframe) {
+        Map<String, Object> headers = headersOf(messages, keyframe);
+        // clients subscribe to user destinations with the user prefix
+        String subscribed = playerId == null ? destination : USER_PREFIX + destination;
+        boolean binarySubscribed = subscriptionRegistry.hasSubscribers(subscribed + BINARY_SUFFIX);
+        if (binarySubscribed) {
+            send(playerId, destination + BINARY_SUFFIX, BinaryUpdateEncoder.encode(messages), headers);
+        }
+        if (!binarySubscribed || subscriptionRegistry.hasSubscribers(subscribed)) {
+            send(playerId, destination, messages, headers);
+        }
+    }
+
+    private void send(String playerId, String destination, Object payload, Map<String, Object> headers) {
+        if (playerId == null) {
+            messagingTemplate.convertAndSend(destination, payload, headers);
+        } else {
+            messagingTemplate.convertAndSendToUser(playerId, destination, payload, headers);
+        }
+    }
+
+    /**
+     * Updates of the player mobs are superseded by the next keyframe, which contains the states of all player mobs.
+     * Updates between keyframes only contain the changed mobs, so they must not replace each other.
+     *
+     * @return the backpressure headers of the messages
+     */
+    static Map<String, Object> headersOf(List<Message> messages, boolean keyframe) {
+        if (!isDroppable(messages)) {
+            return Map.of();
+        }
+        return keyframe ? OutboundBackpressureDecoratorFactory.snapshot() : OutboundBackpressureDecoratorFactory.droppable();
+    }
+
+    /**
+     * Squares, chickens and script ghosts are only sent once per change and the end of a game must always arrive.
+     *
+     * @return true if the messages only contain player mob states, which a newer keyframe supersedes
+     */
+    static boolean isDroppable(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return false;
+        }
+        for (Message message : messages) {
+            if (message.event() != EventEnum.SnackManUpdate && message.event() != EventEnum.GhostUpdate) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
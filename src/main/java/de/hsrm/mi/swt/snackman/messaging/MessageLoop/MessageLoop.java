@@ -1,23 +1,29 @@
 package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
-import de.hsrm.mi.swt.snackman.controller.Square.SquareDTO;
 import de.hsrm.mi.swt.snackman.entities.lobby.*;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
 import de.hsrm.mi.swt.snackman.services.MapService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.controller.PlayerMovement.PlayerInputDTO;
 import de.hsrm.mi.swt.snackman.entities.map.Square;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
@@ -33,19 +39,44 @@ public class MessageLoop {
     @Autowired
     private MapService mapService;
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
-    private Map<String, List<Square>> changedSquares = new HashMap<>();
+    private LobbyUpdatePublisher lobbyUpdatePublisher;
+    private Map<String, LobbyChangeSet> changeSets = new ConcurrentHashMap<>();
     // private Map<String, List<KollisionEvent>> kollisions;
 
-    private Map<String, List<Chicken>> changedChicken = new HashMap<>();
+    private Map<String, LobbySnapshotState> snapshotStates = new ConcurrentHashMap<>();
 
-    private Map<String, List<ScriptGhost>> changedScriptGhosts = new HashMap<>();
+    private Map<String, AreaOfInterest> areasOfInterest = new ConcurrentHashMap<>();
 
-    private Map<String, List<GameEnd>> changedGameEnd = new HashMap<>();
+    private Map<String, LobbySimulation> simulations = new ConcurrentHashMap<>();
 
-    @Scheduled(fixedRate = 50)
+    private Map<String, LobbyTickSchedule> tickSchedules = new ConcurrentHashMap<>();
+
+    private final Map<String, LobbyTickStats> tickStats = new ConcurrentHashMap<>();
+
+    // lobbies whose tick is currently running, a lobby never ticks twice at the same time
+    private final Set<String> runningTicks = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService tickExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("lobby-tick-", 0).factory());
+
+    // runs the movement scripts of the chickens and script ghosts of all lobbies
+    private final ExecutorService mobAiExecutor = Executors.newFixedThreadPool(GameConfig.MOB_AI_THREADS,
+            Thread.ofPlatform().name("mob-ai-", 0).daemon(true).factory());
+
+    private final Map<String, LobbyAiExecutor> aiExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * Dispatches one tick per running lobby onto its own virtual thread,
+     * so a slow or failing lobby does not delay the others.
+     * If the previous tick of a lobby is still running, the lobby skips this tick.
+     * Idle lobbies are only dispatched as often as their {@link LobbyTickSchedule} allows,
+     * a pending game end is always sent immediately.
+     * The state of lobbies that were closed without a game end is released here.
+     */
+    @Scheduled(fixedRate = GameConfig.TICK_RATE)
     public void messageLoop() {
         List<Lobby> lobbys = lobbyService.getAllLobbies();
+        releaseClosedLobbies(lobbys);
         if (lobbys.isEmpty()) {
             return;
         }
@@ -53,118 +84,214 @@ public class MessageLoop {
             if (!lobby.isGameStarted()) {
                 continue;
             }
-            List<Message> messages = new ArrayList<>();
-
-            List<GameEnd> gameEndQueue = changedGameEnd.get(lobby.getLobbyId());
-            changedGameEnd.remove(lobby.getLobbyId());
-
-            if (gameEndQueue != null) {
-                for (GameEnd gameEnd : gameEndQueue) {
-                    log.info("The game {} has been ended.", lobby.getLobbyId());
-                    messages.add(new Message<>(EventEnum.GameEnd, GameEndDTO.fromGameEnd(gameEnd)));
-                    lobbyService.closeAndDeleteLobby(lobby.getLobbyId());
-                    messagingTemplate.convertAndSend("/topic/lobbies/" + lobby.getLobbyId() + "/update", messages);
-                    return;
-                }
+            String lobbyId = lobby.getLobbyId();
+            LobbyTickSchedule schedule = tickSchedules.computeIfAbsent(lobbyId, id -> new LobbyTickSchedule());
+            boolean due = schedule.nextTick(lobby.getLastInputTime(), System.currentTimeMillis());
+            if (!due && !getChangeSet(lobbyId).hasGameEnd()) {
+                continue;
             }
+            LobbyTickStats stats = tickStats.computeIfAbsent(lobbyId, id -> new LobbyTickStats());
+            if (!runningTicks.add(lobbyId)) {
+                stats.recordSkippedTick();
+                continue;
+            }
+            try {
+                tickExecutor.execute(() -> runTick(lobby, stats, schedule.isEnvironmentTick()));
+            } catch (RejectedExecutionException e) {
+                runningTicks.remove(lobbyId);
+                log.warn("Tick of lobby {} was rejected: {}", lobbyId, e.getMessage());
+            }
+        }
+    }
 
-            List<Square> squareQueue = changedSquares.get(lobby.getLobbyId());
-            changedSquares.remove(lobby.getLobbyId());
-
-            List<Chicken> chickenQueue = changedChicken.get(lobby.getLobbyId());
-            changedChicken.remove(lobby.getLobbyId());
-
-            List<ScriptGhost> scriptGhostQueue = changedScriptGhosts.get(lobby.getLobbyId());
-            changedScriptGhosts.remove(lobby.getLobbyId());
-
-            for (String client : lobby.getClientMobMap().keySet()) {
-                Mob mob = lobby.getClientMobMap().get(client);
-
-                switch (mob) {
-                    case SnackMan snackMan -> {
-                        messages.add(new Message<>(EventEnum.SnackManUpdate, new MobUpdateMessage(snackMan.getPosition(),
-                                snackMan.getQuat(), snackMan.getRadius(), snackMan.getSpeed(), client, snackMan.getSprintTimeLeft(),
-                                snackMan.isSprinting(), snackMan.isInCooldown(), snackMan.getCurrentCalories(),
-                                snackMan.getCurrentCalories() >= GameConfig.MAX_KALORIEN ?
-                                        GameConfig.MAX_KALORIEN_MESSAGE : null, snackMan.isScared()
-                        )));
-                    }
-                    case Ghost ghost -> {
-                        messages.add(new Message<>(EventEnum.GhostUpdate, GhostUpdateMessage.fromGhost(ghost, client)));
-                    }
-                    default -> throw new IllegalStateException("Unexpected value: " + mob);
-                }
+    private void runTick(Lobby lobby, LobbyTickStats stats, boolean environmentTick) {
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            tickLobby(lobby, environmentTick);
+        } catch (Exception e) {
+            failed = true;
+            log.error("Tick of lobby {} failed", lobby.getLobbyId(), e);
+        } finally {
+            long duration = System.nanoTime() - start;
+            stats.recordTick(duration, failed);
+            if (duration > TimeUnit.MILLISECONDS.toNanos(GameConfig.TICK_RATE)) {
+                log.warn("Tick of lobby {} took {} ms", lobby.getLobbyId(), TimeUnit.NANOSECONDS.toMillis(duration));
             }
-            if (squareQueue != null) {
-                for (Square square : squareQueue) {
-                    messages.add(new Message<>(EventEnum.SquareUpdate, new SquareUpdateMessage(SquareDTO.fromSquare(square))));
-                }
+            runningTicks.remove(lobby.getLobbyId());
+        }
+    }
+
+    /**
+     * Advances the simulation of a lobby, then collects all changes since the last tick and sends them to its clients
+     *
+     * @param lobby           the lobby to update
+     * @param environmentTick whether squares, chickens and script ghosts are sent in this tick
+     */
+    private void tickLobby(Lobby lobby, boolean environmentTick) {
+        List<Message> messages = new ArrayList<>();
+        LobbyChangeSet changeSet = getChangeSet(lobby.getLobbyId());
+
+        List<GameEnd> gameEnds = changeSet.drainGameEnds();
+        if (!gameEnds.isEmpty()) {
+            log.info("The game {} has been ended.", lobby.getLobbyId());
+            messages.add(new Message<>(EventEnum.GameEnd, GameEndDTO.fromGameEnd(gameEnds.getFirst())));
+            lobbyService.closeAndDeleteLobby(lobby.getLobbyId());
+            releaseLobby(lobby.getLobbyId());
+            lobbyUpdatePublisher.publish(lobby.getLobbyId(), messages);
+            return;
+        }
+
+        getSimulation(lobby.getLobbyId()).advance(lobby, System.currentTimeMillis());
+
+        LobbySnapshotState snapshotState = snapshotStates.computeIfAbsent(lobby.getLobbyId(), id -> new LobbySnapshotState());
+        boolean keyframe = snapshotState.nextTick();
+
+        for (String client : lobby.getClientMobMap().keySet()) {
+            Mob mob = lobby.getClientMobMap().get(client);
+            // only send mobs that changed since the last update, except on keyframes
+            if (!snapshotState.shouldSend(client, MobSnapshot.fromMob(mob), keyframe)) {
+                continue;
             }
-            if (chickenQueue != null) {
-                for (Chicken chicken : chickenQueue) {
-                    messages.add(new Message<>(EventEnum.ChickenUpdate, ChickenUpdateMessage.fromChicken(chicken)));
+
+            switch (mob) {
+                case SnackMan snackMan -> {
+                    messages.add(new Message<>(EventEnum.SnackManUpdate, new MobUpdateMessage(snackMan.getPosition(),
+                            snackMan.getQuat(), snackMan.getRadius(), snackMan.getSpeed(), client, snackMan.getSprintTimeLeft(),
+                            snackMan.isSprinting(), snackMan.isInCooldown(), snackMan.getCurrentCalories(),
+                            snackMan.getCurrentCalories() >= GameConfig.MAX_KALORIEN ?
+                                    GameConfig.MAX_KALORIEN_MESSAGE : null, snackMan.isScared(),
+                            lobby.getLastProcessedInput(client)
+                    )));
                 }
-            }
-            if (scriptGhostQueue != null) {
-                for (ScriptGhost scriptGhost : scriptGhostQueue) {
-                    messages.add(new Message<>(EventEnum.ScriptGhostUpdate, ScriptGhostDTO.fromScriptGhost(scriptGhost)));
+                case Ghost ghost -> {
+                    messages.add(new Message<>(EventEnum.GhostUpdate, GhostUpdateMessage.fromGhost(ghost, client, lobby.getLastProcessedInput(client))));
                 }
+                default -> throw new IllegalStateException("Unexpected value: " + mob);
             }
+        }
+        if (!messages.isEmpty()) {
+            lobbyUpdatePublisher.publish(lobby.getLobbyId(), messages, keyframe);
+        }
 
-            if (messages.isEmpty()) {
-                return;
-            }
-            messagingTemplate.convertAndSend("/topic/lobbies/" + lobby.getLobbyId() + "/update", messages);
-            long currentTime = System.currentTimeMillis();
-            if ((currentTime - lobby.getTimeSinceLastSnackSpawn()) > GameConfig.TIME_FOR_SNACKS_TO_RESPAWN) {
-                this.mapService.respawnSnacks(lobbyService.getGameMapByLobbyId(lobby.getLobbyId()), GameConfig.SNACK_SPAWN_RATE);
-                lobby.setTimeSinceLastSnackSpawn(System.currentTimeMillis());
-            }
+        if (!environmentTick) {
+            // environment changes stay collected until the next environment tick
+            return;
         }
-    }
 
-    public void addSquareToQueue(Square square, String lobbyId) {
-        if (changedSquares.containsKey(lobbyId)) {
-            changedSquares.get(lobbyId).add(square);
-        } else {
-            List<Square> temp = new ArrayList<>();
-            temp.add(square);
-            changedSquares.put(lobbyId, temp);
+        List<EnvironmentChange> environmentChanges = new ArrayList<>();
+        for (Square square : lobby.getGameMap().drainDirtySquares()) {
+            environmentChanges.add(EnvironmentChange.fromSquare(square));
+        }
+        int dirtySquares = environmentChanges.size();
+        for (Chicken chicken : changeSet.getChickens().drain()) {
+            environmentChanges.add(EnvironmentChange.fromChicken(chicken));
+        }
+        for (ScriptGhost scriptGhost : changeSet.getScriptGhosts().drain()) {
+            environmentChanges.add(EnvironmentChange.fromScriptGhost(scriptGhost));
+        }
+        if (environmentChanges.size() > dirtySquares) {
+            // chickens and script ghosts are part of the downloadable map as well
+            lobby.getGameMap().increaseVersion();
+        }
+        // environment changes are sent to every player on its own destination, depending on the distance
+        AreaOfInterest areaOfInterest = areasOfInterest.computeIfAbsent(lobby.getLobbyId(), id -> new AreaOfInterest());
+        areaOfInterest.distribute(lobby.getClientMobMap(), environmentChanges)
+                .forEach((playerId, playerMessages) -> lobbyUpdatePublisher.publishToPlayer(lobby.getLobbyId(), playerId, playerMessages));
+
+        long currentTime = System.currentTimeMillis();
+        if ((currentTime - lobby.getTimeSinceLastSnackSpawn()) > GameConfig.TIME_FOR_SNACKS_TO_RESPAWN) {
+            this.mapService.respawnSnacks(lobbyService.getGameMapByLobbyId(lobby.getLobbyId()), GameConfig.SNACK_SPAWN_RATE);
+            lobby.setTimeSinceLastSnackSpawn(System.currentTimeMillis());
         }
     }
 
+    /**
+     * Queues input frames of a player, they are applied in the next tick of the lobby
+     */
+    public void queueInput(String lobbyId, String playerId, List<PlayerInputDTO> inputs) {
+        getSimulation(lobbyId).queueInput(playerId, inputs);
+    }
+
+    public void queueInput(String lobbyId, String playerId, PlayerInputDTO input) {
+        getSimulation(lobbyId).queueInput(playerId, input);
+    }
+
     public void addChickenToQueue(Chicken chicken, String lobbyId) {
-        if (changedChicken.containsKey(lobbyId)) {
-            changedChicken.get(lobbyId).add(chicken);
-        } else {
-            List<Chicken> temp = new ArrayList<>();
-            temp.add(chicken);
-            changedChicken.put(lobbyId, temp);
-        }
+        getChangeSet(lobbyId).getChickens().add(chicken);
     }
 
     public void addScriptGhostToQueue(ScriptGhost scriptGhost, String lobbyId) {
-        if (changedScriptGhosts.containsKey(lobbyId)) {
-            changedScriptGhosts.get(lobbyId).add(scriptGhost);
-        } else {
-            List<ScriptGhost> temp = new ArrayList<>();
-            temp.add(scriptGhost);
-            changedScriptGhosts.put(lobbyId, temp);
-        }
+        getChangeSet(lobbyId).getScriptGhosts().add(scriptGhost);
     }
 
     public void addGameEndToQueue(GameEnd gameEnd, String lobbyId) {
-        if (changedGameEnd.containsKey(lobbyId)) {
-            changedGameEnd.get(lobbyId).add(gameEnd);
+        if (getChangeSet(lobbyId).addGameEnd(gameEnd)) {
             // Lobby Role entfernen
             Lobby l = lobbyService.findLobbyByLobbyId(lobbyId);
             for (PlayerClient p : l.getMembers()) {
                 p.setRole(ROLE.UNDEFINED);
             }
-        } else {
-            List<GameEnd> temp = new ArrayList<>();
-            temp.add(gameEnd);
-            changedGameEnd.put(lobbyId, temp);
         }
     }
+
+    /**
+     * Returns the tick duration statistics of a lobby
+     *
+     * @param lobbyId the id of the lobby
+     * @return the statistics or null if the lobby never ticked
+     */
+    public LobbyTickStats getTickStats(String lobbyId) {
+        return tickStats.get(lobbyId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tickExecutor.shutdownNow();
+        mobAiExecutor.shutdownNow();
+    }
+
+    /**
+     * Releases the state of lobbies that no longer exist
+     *
+     * @param lobbys the current lobbies
+     */
+    private void releaseClosedLobbies(List<Lobby> lobbys) {
+        Set<String> lobbyIds = new HashSet<>();
+        for (Lobby lobby : lobbys) {
+            lobbyIds.add(lobby.getLobbyId());
+        }
+        for (String lobbyId : simulations.keySet()) {
+            if (!lobbyIds.contains(lobbyId)) {
+                releaseLobby(lobbyId);
+            }
+        }
+    }
+
+    /**
+     * Cancels the pending movement scripts of a lobby and removes all of its state
+     *
+     * @param lobbyId the id of the lobby
+     */
+    private void releaseLobby(String lobbyId) {
+        LobbyAiExecutor lobbyAiExecutor = aiExecutors.remove(lobbyId);
+        if (lobbyAiExecutor != null) {
+            lobbyAiExecutor.cancel();
+        }
+        changeSets.remove(lobbyId);
+        snapshotStates.remove(lobbyId);
+        areasOfInterest.remove(lobbyId);
+        tickSchedules.remove(lobbyId);
+        simulations.remove(lobbyId);
+        tickStats.remove(lobbyId);
+    }
+
+    private LobbySimulation getSimulation(String lobbyId) {
+        return simulations.computeIfAbsent(lobbyId, id -> new LobbySimulation(
+                aiExecutors.computeIfAbsent(id, lobby -> new LobbyAiExecutor(mobAiExecutor))));
+    }
+
+    private LobbyChangeSet getChangeSet(String lobbyId) {
+        return changeSets.computeIfAbsent(lobbyId, id -> new LobbyChangeSet());
+    }
 }
@@ -0,0 +1,55 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+/**
+ * Copy of the state of a player mob as it was last sent to the clients of a lobby.
+ * The values are copied because the position and rotation of a mob are mutable.
+ */
+public record MobSnapshot(double posX, double posY, double posZ, double rotX, double rotY, double rotZ, double rotW,
+                          int calories, int sprintTimeLeft, boolean isSprinting, boolean isInCooldown,
+                          boolean isScared) {
+
+    public static MobSnapshot fromMob(Mob mob) {
+        if (mob instanceof SnackMan snackMan) {
+            return new MobSnapshot(snackMan.getPosX(), snackMan.getPosY(), snackMan.getPosZ(),
+                    snackMan.getQuat().x, snackMan.getQuat().y, snackMan.getQuat().z, snackMan.getQuat().w,
+                    snackMan.getCurrentCalories(), snackMan.getSprintTimeLeft(), snackMan.isSprinting(),
+                    snackMan.isInCooldown(), snackMan.isScared());
+        }
+        return new MobSnapshot(mob.getPosX(), mob.getPosY(), mob.getPosZ(),
+                mob.getRotationQuaternion().x, mob.getRotationQuaternion().y, mob.getRotationQuaternion().z,
+                mob.getRotationQuaternion().w, 0, 0, false, false, false);
+    }
+
+    /**
+     * Checks if the mob changed noticeably since the given snapshot.
+     * Position and rotation are compared with a tolerance, all other values exactly.
+     *
+     * @param other the snapshot to compare with, may be null
+     * @return true if the mob has to be sent again
+     */
+    public boolean differsFrom(MobSnapshot other) {
+        if (other == null) {
+            return true;
+        }
+        return exceeds(posX, other.posX, GameConfig.SNAPSHOT_POSITION_EPSILON)
+                || exceeds(posY, other.posY, GameConfig.SNAPSHOT_POSITION_EPSILON)
+                || exceeds(posZ, other.posZ, GameConfig.SNAPSHOT_POSITION_EPSILON)
+                || exceeds(rotX, other.rotX, GameConfig.SNAPSHOT_ROTATION_EPSILON)
+                || exceeds(rotY, other.rotY, GameConfig.SNAPSHOT_ROTATION_EPSILON)
+                || exceeds(rotZ, other.rotZ, GameConfig.SNAPSHOT_ROTATION_EPSILON)
+                || exceeds(rotW, other.rotW, GameConfig.SNAPSHOT_ROTATION_EPSILON)
+                || calories != other.calories
+                || sprintTimeLeft != other.sprintTimeLeft
+                || isSprinting != other.isSprinting
+                || isInCooldown != other.isInCooldown
+                || isScared != other.isScared;
+    }
+
+    private static boolean exceeds(double a, double b, double epsilon) {
+        return Math.abs(a - b) > epsilon;
+    }
+}
@@ -5,5 +5,5 @@ import org.joml.Vector3d;
 
 public record MobUpdateMessage(Vector3d position, Quaterniond rotation, double radius, double speed, String playerId,
                                int sprintTimeLeft, boolean isSprinting, boolean isInCooldown, int calories,
-                               String message, boolean isScared) {
+                               String message, boolean isScared, long lastProcessedInput) {
 }
\ No newline at end of file
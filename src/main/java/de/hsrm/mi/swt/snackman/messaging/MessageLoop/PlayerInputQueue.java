@@ -0,0 +1,63 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+import de.hsrm.mi.swt.snackman.controller.PlayerMovement.PlayerInputDTO;
+
+/**
+ * Input frames of one player that arrived since the last simulation step.
+ * Filled by the STOMP handlers, drained by the {@link LobbySimulation}.
+ */
+public class PlayerInputQueue {
+
+    private final Deque<PlayerInputDTO> inputs = new ArrayDeque<>();
+    private long lastQueuedSeq = 0;
+
+    /**
+     * Queues input frames in the order of their sequence numbers.
+     * Frames with a sequence number that was already queued are ignored,
+     * frames without sequence number (0) are always queued.
+     */
+    public synchronized void offer(List<PlayerInputDTO> frames) {
+        frames.stream()
+                .sorted(Comparator.comparingLong(PlayerInputDTO::seq))
+                .forEach(this::offer);
+    }
+
+    public synchronized void offer(PlayerInputDTO frame) {
+        if (frame.seq() != 0) {
+            if (frame.seq() <= lastQueuedSeq) {
+                return;
+            }
+            lastQueuedSeq = frame.seq();
+        }
+        inputs.add(frame);
+    }
+
+    /**
+     * Merges all queued frames into one. Keys and rotation are taken from the newest frame,
+     * a jump is kept if any of the frames contained one.
+     *
+     * @return the merged frame or null if no frame was queued
+     */
+    public synchronized PlayerInputDTO drain() {
+        if (inputs.isEmpty()) {
+            return null;
+        }
+        boolean jump = false;
+        boolean doubleJump = false;
+        long seq = 0;
+        for (PlayerInputDTO input : inputs) {
+            jump |= input.jump();
+            doubleJump |= input.doubleJump();
+            seq = Math.max(seq, input.seq());
+        }
+        PlayerInputDTO newest = inputs.getLast();
+        inputs.clear();
+        return new PlayerInputDTO(seq, newest.forward(), newest.backward(), newest.left(), newest.right(), jump,
+                doubleJump, newest.qX(), newest.qY(), newest.qZ(), newest.qW(), newest.delta(), newest.sprinting());
+    }
+}
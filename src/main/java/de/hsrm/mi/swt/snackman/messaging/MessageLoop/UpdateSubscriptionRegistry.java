@@ -0,0 +1,74 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * Keeps track of how many STOMP subscriptions exist per destination,
+ * so the {@link LobbyUpdatePublisher} only encodes the formats somebody listens to.
+ */
+@Component
+public class UpdateSubscriptionRegistry {
+
+    Logger log = LoggerFactory.getLogger(UpdateSubscriptionRegistry.class);
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+    // destination -> number of subscriptions, a destination without subscriptions has no entry
+    private final Map<String, Integer> subscriberCount = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null || destination == null) {
+            return;
+        }
+        subscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        subscriberCount.merge(destination, 1, Integer::sum);
+        log.debug("Session {} subscribed to {}", accessor.getSessionId(), destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+        if (sessionSubscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String destination = sessionSubscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions == null) {
+            return;
+        }
+        sessionSubscriptions.values().forEach(this::decrement);
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return subscriberCount.getOrDefault(destination, 0) > 0;
+    }
+
+    /**
+     * Decreases the count and removes it at zero in one step, so a concurrent subscription is never lost
+     */
+    private void decrement(String destination) {
+        subscriberCount.computeIfPresent(destination, (d, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,96 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps a slow client from filling up the server. Every WebSocket session is wrapped
+ * in an {@link OutboundBackpressureSessionDecorator}, which queues the frames of the session
+ * and writes them on its own, so the backlog of a slow client is where state updates can be dropped.
+ * Messages sent with the {@link #DROPPABLE_HEADER} are state updates, messages with the {@link #SNAPSHOT_HEADER}
+ * contain the whole state of their destination. While more than {@link GameConfig#OUTBOUND_SESSION_QUEUE_LIMIT}
+ * frames of a session are waiting, a snapshot removes the queued state updates of the same destination.
+ * All other messages, like the end of a game, are always delivered, unless more than
+ * {@link GameConfig#OUTBOUND_SESSION_QUEUE_HARD_LIMIT} frames pile up and the session is closed.
+ */
+@Component
+public class OutboundBackpressureDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    public static final String DROPPABLE_HEADER = "snackman-droppable";
+
+    public static final String SNAPSHOT_HEADER = "snackman-snapshot";
+
+    private static final Map<String, Object> DROPPABLE_HEADERS = Map.of(DROPPABLE_HEADER, "true");
+    private static final Map<String, Object> SNAPSHOT_HEADERS = Map.of(DROPPABLE_HEADER, "true", SNAPSHOT_HEADER, "true");
+
+    private final Map<String, OutboundBackpressureSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    // a writer blocked by a slow client only holds its own virtual thread
+    private final ExecutorService sessionWriters = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("session-writer-", 0).factory());
+
+    /**
+     * @return the headers to send a state update with, which may be dropped for a newer snapshot
+     */
+    public static Map<String, Object> droppable() {
+        return DROPPABLE_HEADERS;
+    }
+
+    /**
+     * @return the headers to send the whole state of a destination with, which supersedes all earlier state updates
+     */
+    public static Map<String, Object> snapshot() {
+        return SNAPSHOT_HEADERS;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                OutboundBackpressureSessionDecorator decorated = new OutboundBackpressureSessionDecorator(session,
+                        GameConfig.OUTBOUND_SESSION_QUEUE_LIMIT, GameConfig.OUTBOUND_SESSION_QUEUE_HARD_LIMIT, sessionWriters);
+                sessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                OutboundBackpressureSessionDecorator decorated = sessions.remove(session.getId());
+                if (decorated != null) {
+                    decorated.getQueue().close();
+                }
+                super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sessionWriters.shutdownNow();
+    }
+
+    /**
+     * @return the outbound statistics of all connected sessions, the most lagging session first
+     */
+    public List<SessionOutboundStatsDTO> getSessionStats() {
+        return sessions.values().stream()
+                .map(session -> SessionOutboundStatsDTO.fromSessionOutboundQueue(session.getQueue()))
+                .sorted(Comparator.comparingInt(SessionOutboundStatsDTO::pending).reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,137 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * WebSocket session that does not block the sender while the client is slow.
+ * Every STOMP frame sent to the session is put into its {@link SessionOutboundQueue} and written
+ * by a single writer of the session, so the caller returns immediately and the backlog of a slow client
+ * stays in the queue, where snapshots remove the state updates they supersede. Frames of a {@code MESSAGE} with the
+ * {@link OutboundBackpressureDecoratorFactory#DROPPABLE_HEADER} are state updates, frames with the
+ * {@link OutboundBackpressureDecoratorFactory#SNAPSHOT_HEADER} contain the whole state of their destination,
+ * all other frames, like the end of a game, are always delivered. A session whose queue overflows is closed.
+ */
+public class OutboundBackpressureSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundBackpressureSessionDecorator.class);
+
+    private final SessionOutboundQueue queue;
+    private final Executor writer;
+    private final AtomicBoolean closing = new AtomicBoolean(false);
+
+    /**
+     * @param delegate  the session to write to
+     * @param limit     the number of queued frames after which snapshots remove the state updates they supersede
+     * @param hardLimit the number of queued frames after which the session is closed
+     * @param writer    runs the writer of the session
+     */
+    public OutboundBackpressureSessionDecorator(WebSocketSession delegate, int limit, int hardLimit, Executor writer) {
+        super(delegate);
+        this.queue = new SessionOutboundQueue(delegate.getId(), limit, hardLimit);
+        this.writer = writer;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        String headers = readHeaders(message);
+        boolean queued = queue.offer(message, readHeader(headers, "destination"),
+                "true".equals(readHeader(headers, OutboundBackpressureDecoratorFactory.DROPPABLE_HEADER)),
+                "true".equals(readHeader(headers, OutboundBackpressureDecoratorFactory.SNAPSHOT_HEADER)));
+        if (!queued) {
+            if (queue.isOverflowed()) {
+                log.warn("Session {} lags too far behind, closing it", getId());
+                closeQuietly();
+            }
+            return;
+        }
+        if (queue.claimWriter()) {
+            writer.execute(this::writeQueuedMessages);
+        }
+    }
+
+    private void writeQueuedMessages() {
+        WebSocketMessage<?> message;
+        while ((message = queue.poll()) != null) {
+            try {
+                getDelegate().sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Sending to session {} failed, closing it: {}", getId(), e.getMessage());
+                queue.close();
+                closeQuietly();
+                return;
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Closing session {} failed", getId(), e);
+        }
+    }
+
+    public SessionOutboundQueue getQueue() {
+        return queue;
+    }
+
+    /**
+     * @return the command and header lines of a {@code MESSAGE} frame or null for other frames
+     */
+    static String readHeaders(WebSocketMessage<?> message) {
+        String frame;
+        if (message instanceof TextMessage textMessage) {
+            frame = textMessage.getPayload();
+        } else if (message instanceof BinaryMessage binaryMessage) {
+            // only the header lines are decoded, the body may be large
+            ByteBuffer payload = binaryMessage.getPayload().duplicate();
+            int end = payload.position();
+            while (end + 1 < payload.limit() && !(payload.get(end) == '\n' && payload.get(end + 1) == '\n')) {
+                end++;
+            }
+            byte[] headers = new byte[end - payload.position()];
+            payload.get(headers);
+            frame = new String(headers, StandardCharsets.UTF_8);
+        } else {
+            return null;
+        }
+        if (!frame.startsWith("MESSAGE\n")) {
+            return null;
+        }
+        int end = frame.indexOf("\n\n");
+        return end < 0 ? frame : frame.substring(0, end);
+    }
+
+    /**
+     * @return the value of a header of the frame or null if the frame does not have it
+     */
+    static String readHeader(String headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        String prefix = "\n" + name + ":";
+        int start = headers.indexOf(prefix);
+        if (start < 0) {
+            return null;
+        }
+        start += prefix.length();
+        int end = headers.indexOf('\n', start);
+        return end < 0 ? headers.substring(start) : headers.substring(start, end);
+    }
+}
@@ -0,0 +1,34 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interceptor of the client inbound channel that binds a WebSocket session to the player
+ * given in the {@link #PLAYER_ID_HEADER} of the STOMP CONNECT frame. Messages sent to the user destinations
+ * of a player, like {@code /user/queue/lobbies/{lobbyId}/update}, only reach the sessions of that player.
+ * The player of a session is set once when connecting and can not be changed afterwards.
+ */
+@Component
+public class PlayerConnectInterceptor implements ChannelInterceptor {
+
+    public static final String PLAYER_ID_HEADER = "playerId";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+        String playerId = accessor.getFirstNativeHeader(PLAYER_ID_HEADER);
+        if (playerId != null && !playerId.isBlank()) {
+            accessor.setUser(new PlayerPrincipal(playerId));
+        }
+        return message;
+    }
+}
@@ -0,0 +1,16 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import java.security.Principal;
+
+/**
+ * The player behind a WebSocket session, used to send messages to the user destinations of a single player
+ *
+ * @param playerId the id of the player
+ */
+public record PlayerPrincipal(String playerId) implements Principal {
+
+    @Override
+    public String getName() {
+        return playerId;
+    }
+}
@@ -0,0 +1,139 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * Outbound queue of one WebSocket session for the {@link OutboundBackpressureSessionDecorator}.
+ * Holds the frames that wait to be written to the client. While the session lags behind, a snapshot,
+ * which contains the whole state of its destination, removes the queued droppable frames of the destination,
+ * as it supersedes them. Deltas are never replaced, a mob missing in a newer delta would get lost otherwise.
+ * A session that lets more than the hard limit of frames pile up is closed.
+ * Only one writer drains the queue at a time.
+ */
+public class SessionOutboundQueue {
+
+    private final String sessionId;
+    private final int limit;
+    private final int hardLimit;
+    private final Deque<QueuedMessage> queue = new ArrayDeque<>();
+    private boolean writing = false;
+    private boolean closed = false;
+    private boolean overflowed = false;
+    private int maxPending = 0;
+    private long delivered = 0;
+    private long dropped = 0;
+
+    /**
+     * @param sessionId the id of the session
+     * @param limit     the number of queued frames after which snapshots remove the frames they supersede
+     * @param hardLimit the number of queued frames after which the queue is closed
+     */
+    public SessionOutboundQueue(String sessionId, int limit, int hardLimit) {
+        this.sessionId = sessionId;
+        this.limit = limit;
+        this.hardLimit = hardLimit;
+    }
+
+    /**
+     * Queues a frame for the session
+     *
+     * @param message     the frame to send
+     * @param destination the destination of the frame or null if it has none
+     * @param droppable   whether the frame may be removed by a newer snapshot of its destination
+     * @param snapshot    whether the frame contains the whole state of its destination
+     * @return true if the frame was queued, false if the session is closed or the queue overflowed and was closed
+     */
+    public synchronized boolean offer(WebSocketMessage<?> message, String destination, boolean droppable, boolean snapshot) {
+        if (closed) {
+            return false;
+        }
+        if (snapshot && destination != null && queue.size() >= limit) {
+            int pending = queue.size();
+            queue.removeIf(queuedMessage -> queuedMessage.droppable && destination.equals(queuedMessage.destination));
+            dropped += pending - queue.size();
+        }
+        if (queue.size() >= hardLimit) {
+            overflowed = true;
+            close();
+            return false;
+        }
+        queue.add(new QueuedMessage(message, destination, droppable && destination != null));
+        maxPending = Math.max(maxPending, queue.size());
+        return true;
+    }
+
+    /**
+     * Makes the caller the writer of the session if frames are queued and nobody writes them yet
+     *
+     * @return true if the caller has to drain the queue with {@link #poll()}
+     */
+    public synchronized boolean claimWriter() {
+        if (writing || queue.isEmpty()) {
+            return false;
+        }
+        writing = true;
+        return true;
+    }
+
+    /**
+     * Takes the next frame to write, called by the writer only.
+     * Returning null ends the writing, the next queued frame needs a new writer.
+     *
+     * @return the oldest queued frame or null if the queue is empty
+     */
+    public synchronized WebSocketMessage<?> poll() {
+        QueuedMessage queuedMessage = queue.poll();
+        if (queuedMessage == null) {
+            writing = false;
+            return null;
+        }
+        delivered++;
+        return queuedMessage.message;
+    }
+
+    /**
+     * Discards all queued frames, frames offered afterwards are discarded as well
+     */
+    public synchronized void close() {
+        closed = true;
+        writing = false;
+        queue.clear();
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public synchronized int getPending() {
+        return queue.size();
+    }
+
+    public synchronized int getMaxPending() {
+        return maxPending;
+    }
+
+    public synchronized long getDelivered() {
+        return delivered;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return true if the queue was closed because the session let too many frames pile up
+     */
+    public synchronized boolean isOverflowed() {
+        return overflowed;
+    }
+
+    public synchronized boolean isLagging() {
+        return queue.size() >= limit;
+    }
+
+    private record QueuedMessage(WebSocketMessage<?> message, String destination, boolean droppable) {
+    }
+}
@@ -0,0 +1,10 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+public record SessionOutboundStatsDTO(String sessionId, int pending, int maxPending, long delivered, long dropped,
+                                      boolean lagging) {
+
+    public static SessionOutboundStatsDTO fromSessionOutboundQueue(SessionOutboundQueue queue) {
+        return new SessionOutboundStatsDTO(queue.getSessionId(), queue.getPending(), queue.getMaxPending(),
+                queue.getDelivered(), queue.getDropped(), queue.isLagging());
+    }
+}
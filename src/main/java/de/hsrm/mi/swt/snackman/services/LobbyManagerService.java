@@ -3,11 +3,11 @@ package de.hsrm.mi.swt.snackman.services;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.*;
 
 import de.hsrm.mi.swt.snackman.entities.map.GameMap;
@@ -15,6 +15,7 @@ import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhostDifficulty;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
 import de.hsrm.mi.swt.snackman.messaging.MessageLoop.MessageLoop;
+import de.hsrm.mi.swt.snackman.messaging.OutboundBackpressureDecoratorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,8 +33,8 @@ import de.hsrm.mi.swt.snackman.entities.lobby.ROLE;
 public class LobbyManagerService {
 
     private final MapService mapService;
-    private final Map<String, Lobby> lobbies = new HashMap<>();
-    private final Map<String, PlayerClient> clients = new HashMap<>();
+    private final Map<String, Lobby> lobbies = new ConcurrentHashMap<>();
+    private final Map<String, PlayerClient> clients = new ConcurrentHashMap<>();
     private final Logger log = LoggerFactory.getLogger(LobbyManagerService.class);
     private final MessageLoop messageLoop;
 
@@ -146,7 +147,7 @@ public class LobbyManagerService {
         stopAllScriptThreads(lobby);
         removeAllPlayersFromLobby(lobby);
 
-        messagingTemplate.convertAndSend("/topic/lobbies", getAllLobbies());
+        messagingTemplate.convertAndSend("/topic/lobbies", getAllLobbies(), OutboundBackpressureDecoratorFactory.snapshot());
     }
 
     /**
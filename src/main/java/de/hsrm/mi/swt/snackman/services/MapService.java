@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,15 +56,24 @@ public class MapService {
         this.messageLoop = messageLoop;
     }
 
+    /**
+     * Creates the game map of a lobby from a map file, e.g. an uploaded custom map
+     */
     public GameMap createNewGameMap(String lobbyId, String filePath) {
-        readMazeService.generateNewMaze();
         char[][] mazeData = readMazeService.readMazeFromFile(filePath);
         saveLastMapFile(lobbyId, filePath);
         return convertMazeDataGameMap(lobbyId, mazeData);
     }
 
+    /**
+     * Creates the game map of a lobby from a new maze, generated in memory with a seed of its own
+     */
     public GameMap createNewGameMap(String lobbyId) {
-        return createNewGameMap(lobbyId, "./extensions/map/Maze.txt");
+        long seed = ThreadLocalRandom.current().nextLong();
+        log.debug("Generating maze of lobby {} with seed {}", lobbyId, seed);
+        char[][] mazeData = readMazeService.generateMaze(seed);
+        saveLastMap(lobbyId, mazeData);
+        return convertMazeDataGameMap(lobbyId, mazeData);
     }
 
     /**
@@ -77,7 +87,7 @@ public class MapService {
         for (int x = 0; x < mazeData.length; x++) {
             for (int z = 0; z < mazeData[0].length; z++) {
                 try {
-                    Square squareToAdd = createSquare(lobbyId, mazeData[x][z], x, z);
+                    Square squareToAdd = createSquare(mazeData[x][z], x, z);
 
                     squaresBuildingMap[x][z] = squareToAdd;
                 } catch (IllegalArgumentException e) {
@@ -86,7 +96,10 @@ public class MapService {
             }
         }
 
-        return new GameMap(squaresBuildingMap);
+        GameMap gameMap = new GameMap(squaresBuildingMap);
+        // compile the maze before the first ghost needs it
+        gameMap.getNavigationGraph();
+        return gameMap;
     }
 
     /**
@@ -97,7 +110,7 @@ public class MapService {
      * @param z      index
      * @return a created Square
      */
-    private Square createSquare(String lobbyId, char symbol, int x, int z) {
+    private Square createSquare(char symbol, int x, int z) {
         Square square = null;
 
         switch (symbol) {
@@ -133,13 +146,6 @@ public class MapService {
                 square = new Square(MapObjectType.FLOOR, x, z);
         }
 
-        square.addPropertyChangeListener((PropertyChangeEvent evt) -> {
-            if (evt.getPropertyName().equals("square")) {
-                log.debug("Square changed {}", evt);
-                messageLoop.addSquareToQueue((Square) evt.getNewValue(), lobbyId);
-            }
-        });
-
         return square;
     }
 
@@ -200,10 +206,8 @@ public class MapService {
                         case SpawnpointMobType.CHICKEN:
                             Chicken newChicken = new Chicken(currentSquare, gameMap, loadChickenScripts());
                             lobby.addChicken(newChicken);
-
-                            Thread chickenThread = new Thread(newChicken);
-                            chickenThread.start();
-                            log.debug("Starting chicken with id {}", newChicken.getId());
+                            // the chicken is moved by the simulation of the lobby
+                            log.debug("Spawned chicken with id {}", newChicken.getId());
 
                             newChicken.addPropertyChangeListener((PropertyChangeEvent evt) -> {
                                 if (evt.getPropertyName().equals("chicken")) {
@@ -247,7 +251,7 @@ public class MapService {
                         ghostSpawnIndex = 0;
                     }
 
-                    lobby.getClientMobMap().put(client.getPlayerId(), ghost);
+                    lobby.addPlayerMob(client.getPlayerId(), ghost);
                     ghostSpawnIndex++;
                     break;
                 case SNACKMAN:
@@ -255,7 +259,7 @@ public class MapService {
                     SnackMan snackMan = new SnackMan(lobby.getGameMap(), snackmanSpawnSquare, calcCenterPositionFromMapIndex(snackmanSpawnSquare.getIndexX()), GameConfig.SNACKMAN_GROUND_LEVEL, calcCenterPositionFromMapIndex(snackmanSpawnSquare.getIndexZ()));
 
                     log.info("New player snackman is {}", snackMan);
-                    lobby.getClientMobMap().put(client.getPlayerId(), snackMan);
+                    lobby.addPlayerMob(client.getPlayerId(), snackMan);
                     break;
             }
         }
@@ -272,9 +276,8 @@ public class MapService {
             ScriptGhost newScriptGhost = new ScriptGhost(lobby.getGameMap(), square, lobby.getScriptGhostDifficulty());
             log.info("New script ghost is: {}", newScriptGhost);
 
-            Thread ghostThread = new Thread(newScriptGhost);
-            ghostThread.start();
-            log.debug("Starting script ghost with id {}", newScriptGhost.getId());
+            // the script ghost is moved by the simulation of the lobby
+            log.debug("Spawned script ghost with id {}", newScriptGhost.getId());
             ghostSpawnIndex++;
             lobby.addScriptGhost(newScriptGhost);
 
@@ -301,11 +304,10 @@ public class MapService {
     public void respawnSnacks(GameMap map, double probability) {
         for (int i = 0; i < map.getGameMapSquares().length; i++) {
             for (int j = 0; j < map.getGameMapSquares()[0].length; j++) {
-                Square square = map.getSquareAtIndexXZ(i, j);
-                if (square.getType() == MapObjectType.FLOOR && square.getSnack().getSnackType() == SnackType.EMPTY) {
+                if (map.getTypeAtIndexXZ(i, j) == MapObjectType.FLOOR && map.getSnackTypeAtIndexXZ(i, j) == SnackType.EMPTY) {
                     double rand = Math.random();
                     if (rand <= probability) {
-                        addRandomSnackToSquare(square);
+                        addRandomSnackToSquare(map.getSquareAtIndexXZ(i, j));
                     }
                 }
             }
@@ -320,8 +322,7 @@ public class MapService {
      */
     private void saveLastMapFile(String lobbyId, String filePath) {
         Path source = Paths.get(filePath).toAbsolutePath();
-        String fileName = String.format("LastMap_%s.txt", lobbyId);
-        Path lastMapPath = Paths.get("./extensions/map/" + fileName).toAbsolutePath();
+        Path lastMapPath = lastMapPath(lobbyId);
 
         try {
             if (!Files.exists(lastMapPath)) {
@@ -332,6 +333,28 @@ public class MapService {
         }
     }
 
+    /**
+     * Save a generated map in LastMap.txt in Game-Beginn, for later to download.
+     *
+     * @param lobbyId  the id of the lobby
+     * @param mazeData the generated maze
+     */
+    private void saveLastMap(String lobbyId, char[][] mazeData) {
+        Path lastMapPath = lastMapPath(lobbyId);
+        try {
+            if (!Files.exists(lastMapPath)) {
+                readMazeService.writeMazeToFile(mazeData, lastMapPath.toString());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to back up the generated maze", e);
+        }
+    }
+
+    private Path lastMapPath(String lobbyId) {
+        String fileName = String.format("LastMap_%s.txt", lobbyId);
+        return Paths.get("./extensions/map/" + fileName).toAbsolutePath();
+    }
+
 
     public SnackMan getSnackMan() {
         return null; //snackman;
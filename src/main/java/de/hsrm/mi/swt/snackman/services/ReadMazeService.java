@@ -1,38 +1,25 @@
 package de.hsrm.mi.swt.snackman.services;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.FileReader;
 import java.io.IOException;
-import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
-import org.python.util.PythonInterpreter;
 import org.springframework.stereotype.Service;
 
-import de.hsrm.mi.swt.snackman.SnackmanApplication;
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.map.MazeGenerator;
 
 @Service
 public class ReadMazeService {
 
-    private PythonInterpreter interpreter;
-
-    public ReadMazeService() {
-        interpreter = new PythonInterpreter();
-        interpreter.exec("import sys");
-        URL path = SnackmanApplication.class.getProtectionDomain().getCodeSource().getLocation();
-        String jarClassesPath = path.getPath().replace("nested:", "").replace("!", "");
-        interpreter.exec("if './extensions/chicken' not in sys.path: sys.path.insert(0, './extensions/chicken')");
-        interpreter.exec("if './extensions/ghost' not in sys.path: sys.path.insert(0, './extensions/ghost')");
-        interpreter.exec("if './extensions/maze' not in sys.path: sys.path.insert(0, './extensions/maze')");
-        interpreter.exec("if './extensions' not in sys.path: sys.path.insert(0, './extensions')");
-        interpreter.exec("if '.' not in sys.path: sys.path.insert(0, '.')");
-        interpreter.exec("if '" + jarClassesPath + "/chicken' not in sys.path: sys.path.append('" + jarClassesPath + "/chicken')");
-        interpreter.exec("if '" + jarClassesPath + "/ghost' not in sys.path: sys.path.append('" + jarClassesPath + "/ghost')");
-        interpreter.exec("if '" + jarClassesPath + "/maze' not in sys.path: sys.path.append('" + jarClassesPath + "/maze')");
-        interpreter.exec("if '" + jarClassesPath + "/Lib' not in sys.path: sys.path.append('" + jarClassesPath + "/Lib')");
-    }
-
     /**
      * Reads maze data from a file and converts it into a char array with [x][z]-coordinates
      *
@@ -66,9 +53,43 @@ public class ReadMazeService {
         return mazeAsCharArray;
     }
 
+    /**
+     * Generates a new maze in memory
+     *
+     * @param seed decides the maze, the same seed creates the same maze
+     * @return a char array representing the maze
+     */
+    public char[][] generateMaze(long seed) {
+        return new MazeGenerator(GameConfig.MAZE_SIZE, GameConfig.MAZE_SIZE, new Random(seed)).generate();
+    }
+
+    /**
+     * Generates a new random maze and writes it to ./extensions/map/Maze.txt, like Maze.py did
+     */
     public void generateNewMaze() {
-        interpreter.exec("import Maze");
-        interpreter.exec("Maze.main()");
+        writeMazeToFile(generateMaze(ThreadLocalRandom.current().nextLong()), "./extensions/map/Maze.txt");
+    }
+
+    /**
+     * Writes maze data into a file, one line per row
+     *
+     * @param maze     the char array representing the maze
+     * @param filePath the path of the file, missing folders are created
+     * @throws RuntimeException if there's an error writing the file
+     */
+    public void writeMazeToFile(char[][] maze, String filePath) {
+        Path path = Paths.get(filePath).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+                for (char[] row : maze) {
+                    writer.write(row);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the maze file.", e);
+        }
     }
 
 }
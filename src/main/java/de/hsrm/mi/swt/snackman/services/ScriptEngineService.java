@@ -0,0 +1,138 @@
+package de.hsrm.mi.swt.snackman.services;
+
+import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.python.core.PyException;
+import org.python.core.PyList;
+import org.python.core.PyObject;
+import org.python.core.PyString;
+import org.python.util.PythonInterpreter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.hsrm.mi.swt.snackman.SnackmanApplication;
+
+/**
+ * Owns the Jython interpreter shared by all chickens and script ghosts with custom scripts.
+ * The sys.path of the interpreter is set up once and every script is imported only once.
+ * The functions of the scripts are resolved once into handles, a decision of a mob only calls its handle
+ * with prebuilt python objects, so no python source code is parsed or compiled per decision.
+ * Jython has no global interpreter lock, the AI threads call the handles at the same time,
+ * so the scripts must not keep state between calls in their modules.
+ * The service is created once per JVM, because mobs are created outside of Spring.
+ */
+public class ScriptEngineService {
+
+    private static ScriptEngineService instance;
+
+    private final Logger log = LoggerFactory.getLogger(ScriptEngineService.class);
+    private final PythonInterpreter interpreter;
+    // guarded by this, the interpreter only imports one script at a time
+    private final Set<String> importedScripts = new HashSet<>();
+    // handles of the script functions by "script.function"
+    private final Map<String, PyObject> functions = new ConcurrentHashMap<>();
+    // the squares only consist of a few different strings, they are converted once
+    private final Map<String, PyString> pyStrings = new ConcurrentHashMap<>();
+
+    private ScriptEngineService() {
+        this.interpreter = new PythonInterpreter();
+        initSysPath(interpreter);
+        log.info("Created the python interpreter for scripts");
+    }
+
+    /**
+     * @return the script engine of the application
+     */
+    public static synchronized ScriptEngineService getInstance() {
+        if (instance == null) {
+            instance = new ScriptEngineService();
+        }
+        return instance;
+    }
+
+    private void initSysPath(PythonInterpreter interpreter) {
+        interpreter.exec("import sys");
+        URL path = SnackmanApplication.class.getProtectionDomain().getCodeSource().getLocation();
+        String jarClassesPath = path.getPath().replace("nested:", "").replace("!", "");
+        interpreter.exec("if './extensions/chicken' not in sys.path: sys.path.insert(0, './extensions/chicken')");
+        interpreter.exec("if './extensions/ghost' not in sys.path: sys.path.insert(0, './extensions/ghost')");
+        interpreter.exec("if './extensions/maze' not in sys.path: sys.path.insert(0, './extensions/maze')");
+        interpreter.exec("if './extensions' not in sys.path: sys.path.insert(0, './extensions')");
+        interpreter.exec("if '.' not in sys.path: sys.path.insert(0, '.')");
+        interpreter.exec("if '" + jarClassesPath + "/chicken' not in sys.path: sys.path.append('" + jarClassesPath + "/chicken')");
+        interpreter.exec("if '" + jarClassesPath + "/ghost' not in sys.path: sys.path.append('" + jarClassesPath + "/ghost')");
+        interpreter.exec("if '" + jarClassesPath + "/maze' not in sys.path: sys.path.append('" + jarClassesPath + "/maze')");
+        interpreter.exec("if '" + jarClassesPath + "/Lib' not in sys.path: sys.path.append('" + jarClassesPath + "/Lib')");
+    }
+
+    /**
+     * Imports the given scripts, so the first decision of a mob does not wait for it
+     *
+     * @param scripts the module names of the scripts
+     */
+    public void preload(String... scripts) {
+        for (String script : scripts) {
+            try {
+                importScript(script);
+            } catch (PyException e) {
+                log.warn("Could not preload script {}", script);
+            }
+        }
+    }
+
+    private synchronized void importScript(String script) {
+        if (!importedScripts.contains(script)) {
+            interpreter.exec("import " + script);
+            importedScripts.add(script);
+        }
+    }
+
+    /**
+     * Resolves a function of a script into a handle, which is called without the interpreter.
+     * The script is imported if this has not happened yet, the handle is looked up once and cached.
+     *
+     * @param script   the module name of the script
+     * @param function the name of the function
+     * @return the handle of the function
+     * @throws PyException if the script could not be imported or has no such function
+     */
+    public PyObject getFunction(String script, String function) {
+        return functions.computeIfAbsent(script + "." + function, key -> resolveFunction(script, function));
+    }
+
+    private synchronized PyObject resolveFunction(String script, String function) {
+        importScript(script);
+        return interpreter.get(script).__getattr__(function);
+    }
+
+    /**
+     * Calls a function of a script with the given arguments
+     *
+     * @param script   the module name of the script
+     * @param function the name of the function
+     * @param args     the arguments of the call
+     * @return the result of the function as int
+     */
+    public int callForInt(String script, String function, PyObject... args) {
+        return getFunction(script, function).__call__(args).asInt();
+    }
+
+    /**
+     * Converts a list of strings to a python list, the python strings are reused between calls
+     *
+     * @param list the strings to convert
+     * @return a new python list of the strings
+     */
+    public PyList toPyStringList(List<String> list) {
+        PyObject[] items = new PyObject[list.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = pyStrings.computeIfAbsent(list.get(i), PyString::new);
+        }
+        return new PyList(items);
+    }
+}
@@ -0,0 +1,117 @@
+package de.hsrm.mi.swt.snackman.controller.GameMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.services.LobbyManagerService;
+
+/**
+ * Tests the conditional requests of the game map download with the ETag of the map
+ */
+@WebMvcTest(GameMapController.class)
+class GameMapControllerTest {
+
+    private static final String GAME_MAP = "/api/lobby/1/game-map";
+    private static final String GAME_MAP_STREAM = "/api/lobby/1/game-map/stream";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private LobbyManagerService lobbyManagerService;
+
+    private GameMap gameMap;
+
+    @BeforeEach
+    void setUp() {
+        Square[][] squares = new Square[3][3];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(x == 1 && z == 1 ? MapObjectType.FLOOR : MapObjectType.WALL, x, z);
+            }
+        }
+        gameMap = new GameMap(squares);
+        when(lobbyManagerService.getGameMapByLobbyId("1")).thenReturn(gameMap);
+    }
+
+    private String eTag() {
+        return "\"" + gameMap.getId() + "-" + gameMap.getVersion() + "\"";
+    }
+
+    @Test
+    void testMapIsSentWithETag() throws Exception {
+        mockMvc.perform(get(GAME_MAP))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag()));
+    }
+
+    @Test
+    void testMatchingETagIsNotModified() throws Exception {
+        mockMvc.perform(get(GAME_MAP).header(HttpHeaders.IF_NONE_MATCH, eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag()))
+                .andExpect(content().string(""));
+        // weak tags, lists of tags and * match as well
+        mockMvc.perform(get(GAME_MAP).header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag()))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(GAME_MAP).header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag()))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(GAME_MAP).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testChangedMapIsSentAgain() throws Exception {
+        String oldETag = eTag();
+        gameMap.increaseVersion();
+
+        mockMvc.perform(get(GAME_MAP).header(HttpHeaders.IF_NONE_MATCH, oldETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag()));
+    }
+
+    @Test
+    void testStreamedMapMatchesMap() throws Exception {
+        String map = mockMvc.perform(get(GAME_MAP)).andReturn().getResponse().getContentAsString();
+
+        MvcResult streaming = mockMvc.perform(get(GAME_MAP_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String streamedMap = mockMvc.perform(asyncDispatch(streaming))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag()))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(objectMapper.readTree(map), objectMapper.readTree(streamedMap));
+    }
+
+    @Test
+    void testStreamWithMatchingETagIsNotModified() throws Exception {
+        mockMvc.perform(get(GAME_MAP_STREAM).header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag()));
+    }
+}
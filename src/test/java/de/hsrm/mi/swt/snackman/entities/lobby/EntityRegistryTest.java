@@ -0,0 +1,78 @@
+package de.hsrm.mi.swt.snackman.entities.lobby;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+class EntityRegistryTest {
+
+    private EntityRegistry registry;
+    private GameMap gameMap;
+
+    @BeforeEach
+    void setUp() {
+        Square[][] squares = new Square[3][3];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(MapObjectType.FLOOR, x, z);
+            }
+        }
+        gameMap = new GameMap(squares);
+        registry = new EntityRegistry();
+    }
+
+    @Test
+    void testPlayerMobsAreSortedByType() {
+        SnackMan snackMan = new SnackMan(gameMap, GameConfig.SNACKMAN_SPEED, GameConfig.SNACKMAN_RADIUS);
+        Ghost ghost = new Ghost(gameMap.getSquareAtIndexXZ(1, 1), 3, 3, gameMap);
+
+        registry.addPlayerMob("b", snackMan);
+        registry.addPlayerMob("a", ghost);
+
+        assertSame(snackMan, registry.getSnackMan());
+        assertEquals(List.of(ghost), registry.getPlayerGhosts());
+        assertEquals(List.of("a", "b"), List.copyOf(registry.getPlayerMobs().keySet()));
+    }
+
+    @Test
+    void testRemovedPlayerMobIsNotFoundAnymore() {
+        SnackMan snackMan = new SnackMan(gameMap, GameConfig.SNACKMAN_SPEED, GameConfig.SNACKMAN_RADIUS);
+        Ghost ghost = new Ghost(gameMap.getSquareAtIndexXZ(1, 1), 3, 3, gameMap);
+        registry.addPlayerMob("snackman", snackMan);
+        registry.addPlayerMob("ghost", ghost);
+
+        assertSame(snackMan, registry.removePlayerMob("snackman"));
+        assertNull(registry.getSnackMan());
+
+        // a player that gets a new mob loses the old one
+        registry.addPlayerMob("ghost", snackMan);
+        assertSame(snackMan, registry.getSnackMan());
+        assertTrue(registry.getPlayerGhosts().isEmpty());
+    }
+
+    @Test
+    void testScriptGhostsAndChickensAreKept() {
+        ScriptGhost scriptGhost = new ScriptGhost(gameMap, gameMap.getSquareAtIndexXZ(1, 1));
+        registry.addScriptGhost(scriptGhost);
+
+        assertEquals(List.of(scriptGhost), registry.getScriptGhosts());
+        assertThrows(UnsupportedOperationException.class, () -> registry.getScriptGhosts().clear());
+        assertTrue(registry.removeScriptGhost(scriptGhost));
+        assertTrue(registry.getScriptGhosts().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mapObject.snack.Snack;
+import de.hsrm.mi.swt.snackman.entities.mapObject.snack.SnackType;
+
+class GameMapTest {
+
+    private GameMap gameMap;
+
+    @BeforeEach
+    void setUp() {
+        Square[][] squares = new Square[9][9];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(MapObjectType.FLOOR, x, z);
+                squares[x][z].setSnack(new Snack(SnackType.APPLE));
+            }
+        }
+        gameMap = new GameMap(squares);
+    }
+
+    @Test
+    void testChangesBeforeCreationAreNotDirty() {
+        assertTrue(gameMap.drainDirtySquares().isEmpty());
+    }
+
+    @Test
+    void testSquareChangedTwiceIsDrainedOnce() {
+        Square square = gameMap.getSquareAtIndexXZ(8, 7);
+        square.setSnack(new Snack(SnackType.EMPTY));
+        square.setSnack(new Snack(SnackType.CHERRY));
+
+        List<Square> dirty = gameMap.drainDirtySquares();
+
+        assertEquals(1, dirty.size());
+        assertSame(square, dirty.getFirst());
+        assertTrue(gameMap.drainDirtySquares().isEmpty());
+    }
+
+    @Test
+    void testAllChangedSquaresAreDrained() {
+        gameMap.getSquareAtIndexXZ(0, 0).setSnack(new Snack(SnackType.EMPTY));
+        gameMap.getSquareAtIndexXZ(3, 5).setSnack(new Snack(SnackType.EMPTY));
+        gameMap.getSquareAtIndexXZ(8, 8).setSnack(new Snack(SnackType.EMPTY));
+
+        List<Square> dirty = gameMap.drainDirtySquares();
+
+        assertEquals(List.of(gameMap.getSquareAtIndexXZ(0, 0), gameMap.getSquareAtIndexXZ(3, 5),
+                gameMap.getSquareAtIndexXZ(8, 8)), dirty);
+    }
+
+    @Test
+    void testOutsideOfTheMapIsOneWall() {
+        Square outside = gameMap.getSquareAtIndexXZ(-1, 4);
+
+        assertEquals(MapObjectType.WALL, outside.getType());
+        assertSame(outside, gameMap.getSquareAtIndexXZ(9, 0));
+        assertTrue(gameMap.isWallAtIndexXZ(4, 9));
+    }
+
+    @Test
+    void testGridFollowsChangedSquares() {
+        Square square = gameMap.getSquareAtIndexXZ(2, 6);
+        assertEquals(MapObjectType.FLOOR, gameMap.getTypeAtIndexXZ(2, 6));
+        assertEquals(SnackType.APPLE, gameMap.getSnackTypeAtIndexXZ(2, 6));
+
+        square.setSnack(new Snack(SnackType.EGG));
+        square.setType(MapObjectType.WALL);
+
+        assertTrue(gameMap.isWallAtIndexXZ(2, 6));
+        assertEquals(SnackType.EGG, gameMap.getSnackTypeAtIndexXZ(2, 6));
+        assertEquals(MapObjectType.FLOOR, gameMap.getTypeAtIndexXZ(2, 5));
+    }
+}
@@ -0,0 +1,78 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MazeGeneratorTest {
+
+    private static final int SIZE = 21;
+
+    @Test
+    void testMazeHasWallsAroundAndSnackManInTheMiddle() {
+        for (long seed = 0; seed < 50; seed++) {
+            char[][] maze = new MazeGenerator(SIZE, SIZE, new Random(seed)).generate();
+
+            assertEquals(SIZE, maze.length);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(SIZE, maze[i].length);
+                assertTrue(maze[0][i] == '#' && maze[SIZE - 1][i] == '#' && maze[i][0] == '#' && maze[i][SIZE - 1] == '#',
+                        "The border should be walls with seed " + seed);
+                for (char c : maze[i]) {
+                    assertTrue(c == ' ' || c == '#' || c == 'o' || c == 'S' || c == 'G' || c == 'C', "Invalid character: '" + c + "'");
+                }
+            }
+            assertEquals('S', maze[SIZE / 2][SIZE / 2]);
+            // the free center
+            assertEquals(' ', maze[8][12]);
+        }
+    }
+
+    @Test
+    void testEveryFreeCellCanBeReached() {
+        for (long seed = 0; seed < 50; seed++) {
+            char[][] maze = new MazeGenerator(SIZE, SIZE, new Random(seed)).generate();
+            boolean[][] reached = new boolean[SIZE][SIZE];
+            ArrayDeque<int[]> queue = new ArrayDeque<>();
+            queue.add(new int[]{SIZE / 2, SIZE / 2});
+            reached[SIZE / 2][SIZE / 2] = true;
+            while (!queue.isEmpty()) {
+                int[] cell = queue.poll();
+                for (int[] step : new int[][]{{-1, 0}, {0, 1}, {1, 0}, {0, -1}}) {
+                    int x = cell[0] + step[0];
+                    int y = cell[1] + step[1];
+                    if (maze[x][y] != '#' && !reached[x][y]) {
+                        reached[x][y] = true;
+                        queue.add(new int[]{x, y});
+                    }
+                }
+            }
+
+            for (int x = 0; x < SIZE; x++) {
+                for (int y = 0; y < SIZE; y++) {
+                    assertTrue(maze[x][y] == '#' || reached[x][y], "Cell " + x + "," + y + " is cut off with seed " + seed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSpawnsAreGenerated() {
+        char[][] maze = new MazeGenerator(SIZE, SIZE, new Random(3)).generate();
+        int ghosts = 0;
+        int chickens = 0;
+        for (char[] row : maze) {
+            for (char c : row) {
+                ghosts += c == 'G' ? 1 : 0;
+                chickens += c == 'C' ? 1 : 0;
+            }
+        }
+
+        assertTrue(ghosts > 0, "The maze should have ghost spawns");
+        assertTrue(chickens > 0, "The maze should have chicken spawns");
+    }
+}
@@ -0,0 +1,136 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+
+class NavigationGraphTest {
+
+    private GameMap createMap(String... rows) {
+        Square[][] squares = new Square[rows.length][rows[0].length()];
+        for (int x = 0; x < rows.length; x++) {
+            for (int z = 0; z < rows[0].length(); z++) {
+                MapObjectType type = rows[x].charAt(z) == '#' ? MapObjectType.WALL : MapObjectType.FLOOR;
+                squares[x][z] = new Square(type, x, z);
+            }
+        }
+        return new GameMap(squares);
+    }
+
+    @Test
+    void testCorridorsBetweenJunctions() {
+        GameMap gameMap = createMap(
+                "#######",
+                "#.....#",
+                "#.###.#",
+                "#.....#",
+                "#######");
+        NavigationGraph graph = gameMap.getNavigationGraph();
+
+        // a ring without any junction gets one
+        assertEquals(1, graph.getJunctionCount());
+        assertEquals(1, graph.getCorridorCount());
+        assertEquals(4, graph.getDistance(1, 1, 1, 5));
+        assertEquals(5, graph.getDistance(1, 2, 3, 5));
+        assertEquals(NavigationGraph.UNREACHABLE, graph.getDistance(1, 1, 2, 3));
+    }
+
+    @Test
+    void testDeadEndsAndSeparatedAreas() {
+        GameMap gameMap = createMap(
+                "#######",
+                "#...#.#",
+                "#.#.#.#",
+                "#.#####",
+                "#######");
+        NavigationGraph graph = gameMap.getNavigationGraph();
+
+        assertEquals(5, graph.getDistance(3, 1, 2, 3));
+        assertEquals(0, graph.getDistance(1, 2, 1, 2));
+        assertEquals(1, graph.getDistance(1, 5, 2, 5));
+        assertEquals(NavigationGraph.UNREACHABLE, graph.getDistance(1, 1, 1, 5));
+    }
+
+    @Test
+    void testDistancesMatchBreadthFirstSearch() {
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            String[] rows = new String[11];
+            for (int x = 0; x < rows.length; x++) {
+                StringBuilder row = new StringBuilder();
+                for (int z = 0; z < 13; z++) {
+                    row.append(random.nextDouble() < 0.35 ? '#' : '.');
+                }
+                rows[x] = row.toString();
+            }
+            GameMap gameMap = createMap(rows);
+            NavigationGraph graph = gameMap.getNavigationGraph();
+
+            for (int x = 0; x < rows.length; x++) {
+                for (int z = 0; z < rows[0].length(); z++) {
+                    int[][] expected = breadthFirstSearch(rows, x, z);
+                    for (int toX = 0; toX < rows.length; toX++) {
+                        for (int toZ = 0; toZ < rows[0].length(); toZ++) {
+                            assertEquals(expected[toX][toZ], graph.getDistance(x, z, toX, toZ),
+                                    "from " + x + "," + z + " to " + toX + "," + toZ + " in run " + run);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGraphIsCompiledAgainAfterTypeChange() {
+        GameMap gameMap = createMap(
+                "#####",
+                "#...#",
+                "#.#.#",
+                "#...#",
+                "#####");
+        NavigationGraph graph = gameMap.getNavigationGraph();
+        assertSame(graph, gameMap.getNavigationGraph());
+        assertEquals(3, graph.getDistance(1, 1, 2, 3));
+
+        gameMap.getSquareAtIndexXZ(1, 2).setType(MapObjectType.WALL);
+
+        NavigationGraph compiled = gameMap.getNavigationGraph();
+        assertNotSame(graph, compiled);
+        assertEquals(5, compiled.getDistance(1, 1, 2, 3));
+        assertEquals(NavigationGraph.UNREACHABLE, compiled.getDistance(1, 2, 2, 3));
+    }
+
+    private int[][] breadthFirstSearch(String[] rows, int fromX, int fromZ) {
+        int[][] distances = new int[rows.length][rows[0].length()];
+        for (int[] row : distances) {
+            Arrays.fill(row, NavigationGraph.UNREACHABLE);
+        }
+        if (rows[fromX].charAt(fromZ) == '#') {
+            return distances;
+        }
+        distances[fromX][fromZ] = 0;
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{fromX, fromZ});
+        while (!queue.isEmpty()) {
+            int[] square = queue.poll();
+            for (int[] step : new int[][]{{-1, 0}, {0, 1}, {1, 0}, {0, -1}}) {
+                int x = square[0] + step[0];
+                int z = square[1] + step[1];
+                if (x >= 0 && x < rows.length && z >= 0 && z < rows[0].length()
+                        && rows[x].charAt(z) != '#' && distances[x][z] == NavigationGraph.UNREACHABLE) {
+                    distances[x][z] = distances[square[0]][square[1]] + 1;
+                    queue.add(new int[]{x, z});
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,103 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+class SnackManTargetLookupTest {
+
+    private GameMap gameMap;
+    private SnackMan snackMan;
+
+    @BeforeEach
+    void setUp() {
+        // # # # # #
+        // # . . . #
+        // # . # . #
+        // # . . . #
+        // # # # # #
+        Square[][] squares = new Square[5][5];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                boolean wall = x == 0 || z == 0 || x == 4 || z == 4 || (x == 2 && z == 2);
+                squares[x][z] = new Square(wall ? MapObjectType.WALL : MapObjectType.FLOOR, x, z);
+            }
+        }
+        gameMap = new GameMap(squares);
+        snackMan = new SnackMan(gameMap, gameMap.getSquareAtIndexXZ(1, 1), 1.5 * GameConfig.SQUARE_SIZE,
+                GameConfig.SNACKMAN_GROUND_LEVEL, 1.5 * GameConfig.SQUARE_SIZE);
+    }
+
+    @Test
+    void testDistancesAroundWalls() {
+        SnackManTargetLookup lookup = gameMap.getSnackManTargetLookup();
+
+        assertEquals(0, lookup.getDistance(1, 1));
+        assertEquals(2, lookup.getDistance(1, 3));
+        assertEquals(4, lookup.getDistance(3, 3));
+        assertEquals(SnackManTargetLookup.UNREACHABLE, lookup.getDistance(2, 2));
+        assertEquals(SnackManTargetLookup.UNREACHABLE, lookup.getDistance(0, 0));
+    }
+
+    @Test
+    void testDirectionFollowsShortestPath() {
+        SnackManTargetLookup lookup = gameMap.getSnackManTargetLookup();
+
+        // north first, then west
+        assertEquals(0, lookup.chooseDirection(3, 3));
+        assertEquals(3, lookup.chooseDirection(1, 3));
+        assertEquals(0, lookup.chooseDirection(3, 1));
+        assertEquals(-1, lookup.chooseDirection(1, 1));
+    }
+
+    @Test
+    void testLookupFollowsSnackManToNewSquare() {
+        SnackManTargetLookup lookup = gameMap.getSnackManTargetLookup();
+        assertEquals(4, lookup.getDistance(3, 3));
+
+        gameMap.getSquareAtIndexXZ(1, 1).removeMob(snackMan);
+        gameMap.getSquareAtIndexXZ(3, 2).addMob(snackMan);
+
+        assertEquals(1, lookup.getDistance(3, 3));
+        assertEquals(1, lookup.chooseDirection(3, 1));
+
+        gameMap.getSquareAtIndexXZ(3, 2).moveMob(snackMan, gameMap.getSquareAtIndexXZ(1, 3));
+        assertEquals(2, lookup.getDistance(3, 3));
+        assertEquals(0, lookup.getDistance(1, 3));
+    }
+
+    @Test
+    void testLookupForgetsRemovedSnackMan() {
+        SnackManTargetLookup lookup = gameMap.getSnackManTargetLookup();
+        SnackMan secondSnackMan = new SnackMan(gameMap, gameMap.getSquareAtIndexXZ(1, 1), 1.5 * GameConfig.SQUARE_SIZE,
+                GameConfig.SNACKMAN_GROUND_LEVEL, 1.5 * GameConfig.SQUARE_SIZE);
+
+        gameMap.getSquareAtIndexXZ(1, 1).removeMob(snackMan);
+        // the other snackman still stands on the square
+        assertEquals(0, lookup.getDistance(1, 1));
+
+        gameMap.getSquareAtIndexXZ(1, 1).removeMob(secondSnackMan);
+        gameMap.getSquareAtIndexXZ(1, 1).removeMob(secondSnackMan);
+        assertEquals(SnackManTargetLookup.UNREACHABLE, lookup.getDistance(1, 1));
+        assertEquals(-1, lookup.chooseDirection(3, 3));
+    }
+
+    @Test
+    void testLookupFollowsChangedWalls() {
+        SnackManTargetLookup lookup = gameMap.getSnackManTargetLookup();
+        assertEquals(2, lookup.getDistance(3, 1));
+
+        gameMap.getSquareAtIndexXZ(2, 1).setType(MapObjectType.WALL);
+        assertEquals(6, lookup.getDistance(3, 1));
+
+        gameMap.getSquareAtIndexXZ(2, 2).setType(MapObjectType.FLOOR);
+        gameMap.getSquareAtIndexXZ(2, 1).setType(MapObjectType.FLOOR);
+        assertEquals(2, lookup.getDistance(3, 1));
+        assertEquals(2, lookup.getDistance(2, 2));
+    }
+}
@@ -0,0 +1,44 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SpatialHashTest {
+
+    @Test
+    void testOverlapAcrossCellBorder() {
+        SpatialHash<String> hash = new SpatialHash<>(2);
+        hash.insert("ghost", 3.9, 1, 0.3);
+
+        assertEquals(List.of("ghost"), hash.findOverlapping(4.2, 1, 0.3));
+        assertTrue(hash.findOverlapping(4.6, 1, 0.3).isEmpty());
+    }
+
+    @Test
+    void testLargeCircleReachesFarCells() {
+        SpatialHash<String> hash = new SpatialHash<>(2);
+        hash.insert("small", 0, 0, 0.5);
+        hash.insert("large", 9, 9, 5);
+
+        assertEquals(List.of("large"), hash.findOverlapping(6, 6, 0.5));
+        // circles that only touch do not overlap
+        assertTrue(hash.findOverlapping(0, 1, 0.5).isEmpty());
+    }
+
+    @Test
+    void testClearRemovesAllItems() {
+        SpatialHash<String> hash = new SpatialHash<>(2);
+        hash.insert("ghost", 1, 1, 1);
+        hash.clear();
+
+        assertEquals(0, hash.size());
+        assertTrue(hash.findOverlapping(1, 1, 1).isEmpty());
+
+        hash.insert("ghost", -3, -3, 1);
+        assertEquals(List.of("ghost"), hash.findOverlapping(-3.5, -3.5, 0.1));
+    }
+}
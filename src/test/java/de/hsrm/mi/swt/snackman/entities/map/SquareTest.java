@@ -0,0 +1,92 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+class SquareTest {
+
+    private GameMap createMap() {
+        Square[][] squares = new Square[3][3];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(MapObjectType.FLOOR, x, z);
+            }
+        }
+        return new GameMap(squares);
+    }
+
+    @Test
+    void testMoveMob() {
+        GameMap gameMap = createMap();
+        Square from = gameMap.getSquareAtIndexXZ(1, 1);
+        Square to = gameMap.getSquareAtIndexXZ(1, 2);
+        SnackMan snackMan = new SnackMan(gameMap, from, 3, GameConfig.SNACKMAN_GROUND_LEVEL, 3);
+        long snackManVersion = gameMap.getSnackManVersion();
+
+        from.moveMob(snackMan, to);
+
+        assertTrue(from.getMobs().isEmpty());
+        assertEquals(List.of(snackMan), to.getMobs());
+        assertTrue(gameMap.getSnackManVersion() > snackManVersion);
+        assertEquals("M", to.getPrimaryTypeForGhost());
+    }
+
+    @Test
+    void testMobsCanBeIteratedWhileMoving() throws Exception {
+        GameMap gameMap = createMap();
+        Square left = gameMap.getSquareAtIndexXZ(1, 0);
+        Square right = gameMap.getSquareAtIndexXZ(1, 2);
+        SnackMan first = new SnackMan(gameMap, left, 1, GameConfig.SNACKMAN_GROUND_LEVEL, 1);
+        SnackMan second = new SnackMan(gameMap, right, 5, GameConfig.SNACKMAN_GROUND_LEVEL, 5);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> firstMoves = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    if (i % 2 == 0) left.moveMob(first, right);
+                    else right.moveMob(first, left);
+                }
+            });
+            Future<?> secondMoves = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    if (i % 2 == 0) right.moveMob(second, left);
+                    else left.moveMob(second, right);
+                }
+            });
+            Future<?> reads = executor.submit(() -> {
+                while (running.get()) {
+                    for (Mob mob : left.getMobs()) {
+                        mob.getPosX();
+                    }
+                    left.getPrimaryType();
+                    right.getPrimaryTypeForGhost();
+                }
+            });
+            firstMoves.get(10, TimeUnit.SECONDS);
+            secondMoves.get(10, TimeUnit.SECONDS);
+            running.set(false);
+            reads.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // both mobs moved an even number of times
+        assertEquals(List.of(first), left.getMobs());
+        assertEquals(List.of(second), right.getMobs());
+    }
+}
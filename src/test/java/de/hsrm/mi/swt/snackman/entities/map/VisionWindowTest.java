@@ -0,0 +1,96 @@
+package de.hsrm.mi.swt.snackman.entities.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mapObject.snack.Snack;
+import de.hsrm.mi.swt.snackman.entities.mapObject.snack.SnackType;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+class VisionWindowTest {
+
+    private GameMap gameMap;
+
+    @BeforeEach
+    void setUp() {
+        Square[][] squares = new Square[3][3];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(x == 1 && z == 1 ? MapObjectType.WALL : MapObjectType.FLOOR, x, z);
+                squares[x][z].setSnack(null);
+            }
+        }
+        gameMap = new GameMap(squares);
+    }
+
+    @Test
+    void testWindowShowsDominantTypesAndOutsideWalls() {
+        gameMap.getSquareAtIndexXZ(0, 1).setSnack(new Snack(SnackType.STRAWBERRY));
+        gameMap.getSquareAtIndexXZ(0, 2).setSnack(new Snack(SnackType.EGG));
+        new ScriptGhost(gameMap, gameMap.getSquareAtIndexXZ(1, 0));
+        VisionWindow window = new VisionWindow(1);
+
+        window.fill(gameMap, 0, 1, "2");
+
+        assertEquals(List.of("W", "W", "W", "L", "S", "L", "G", "W", "L", "2"), window);
+    }
+
+    @Test
+    void testWindowFollowsMovingMobs() {
+        Square from = gameMap.getSquareAtIndexXZ(2, 0);
+        Square to = gameMap.getSquareAtIndexXZ(2, 1);
+        SnackMan snackMan = new SnackMan(gameMap, from, 1, GameConfig.SNACKMAN_GROUND_LEVEL, 5);
+        from.setSnack(new Snack(SnackType.APPLE));
+        VisionWindow window = new VisionWindow(1);
+
+        window.fill(gameMap, 2, 1, "0");
+        assertEquals("SM", window.get(3));
+        assertEquals("L", window.get(4));
+
+        from.moveMob(snackMan, to);
+        window.fill(gameMap, 2, 1, "0");
+        assertEquals("S", window.get(3));
+        assertEquals("SM", window.get(4));
+        assertEquals(PrimaryTypeCode.SNACKMAN, window.getCodes()[4]);
+        assertEquals("M", to.getPrimaryTypeForGhost());
+    }
+
+    @Test
+    void testFillingDoesNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+        VisionWindow window = new VisionWindow(2);
+        window.fill(gameMap, 1, 1, "1");
+        window.get(0);
+
+        int fills = 5_000;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int walls = 0;
+        for (int i = 0; i < fills; i++) {
+            window.fill(gameMap, i % 3, 1, "1");
+            for (int j = 0; j < window.size() - 1; j++) {
+                if (window.get(j).equals("W")) {
+                    walls++;
+                }
+            }
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(walls > 0);
+        assertTrue(allocated < fills, "Filling the window allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,67 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+
+class MobMoveAllocationTest {
+
+    // few enough that the moves are not optimized by escape analysis, which would hide allocations
+    private static final int MOVES = 5_000;
+
+    private GameMap gameMap;
+    private Mob mob;
+
+    @BeforeEach
+    void setUp() {
+        Square[][] squares = new Square[5][5];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                boolean wall = x == 0 || z == 0 || x == 4 || z == 4 || (x == 2 && z == 3);
+                squares[x][z] = new Square(wall ? MapObjectType.WALL : MapObjectType.FLOOR, x, z);
+            }
+        }
+        gameMap = new GameMap(squares);
+        mob = new Mob(gameMap, 10, 0.3, 2.5 * GameConfig.SQUARE_SIZE, GameConfig.SNACKMAN_GROUND_LEVEL, 2.5 * GameConfig.SQUARE_SIZE) {
+        };
+        mob.setQuaternion(0, 0.3826834, 0, 0.9238795);
+    }
+
+    @Test
+    void testMoveDoesNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+
+        // loads all classes used by the moves
+        mob.move(true, false, false, false, 0.02, gameMap);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        moveAround();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // a single vector per move would already be more than 100 kilobytes
+        assertTrue(allocated < MOVES, "Moving allocated " + allocated + " bytes");
+    }
+
+    /**
+     * Walks in all directions against the walls and back
+     */
+    private void moveAround() {
+        for (int i = 0; i < MOVES; i++) {
+            int pattern = i % 8;
+            mob.move(pattern < 2, pattern == 4, pattern == 2 || pattern == 5, pattern == 3 || pattern == 6, 0.02, gameMap);
+        }
+    }
+}
@@ -90,4 +90,50 @@ class MobWallCollisionTest {
         double zNew = snackman.getPosZ() - (GameConfig.SQUARE_SIZE/2) + (snackman.getRadius()/2);
         assertEquals(3, snackman.checkWallCollision(xNew, zNew, this.gameMap));
     }
+
+    private static GameMap corridorMap() {
+        // floor - wall - floor between x = 1 and x = 3
+        Square[][] corridor = new Square[5][5];
+        for (int x = 0; x < 5; x++) {
+            for (int z = 0; z < 5; z++) {
+                boolean wall = x == 0 || x == 2 || x == 4 || z == 0 || z == 4;
+                corridor[x][z] = new Square(wall ? MapObjectType.WALL : MapObjectType.FLOOR, x, z);
+            }
+        }
+        return new GameMap(corridor);
+    }
+
+    @Test
+    void longStepDoesNotTunnelThroughWall(){
+        GameMap corridorMap = corridorMap();
+        SnackMan mob = new SnackMan(corridorMap, 10, 0.3, 1.5 * GameConfig.SQUARE_SIZE, GameConfig.SNACKMAN_GROUND_LEVEL, 2.5 * GameConfig.SQUARE_SIZE);
+
+        // a step of almost two squares would end on the floor behind the wall
+        assertEquals(0.175, mob.sweepToFirstWall(4, 0, corridorMap), 1e-9);
+        mob.move(false, false, false, true, 0.6, corridorMap);
+
+        assertEquals(2 * GameConfig.SQUARE_SIZE - mob.getRadius(), mob.getPosX(), 1e-9);
+        assertEquals(2.5 * GameConfig.SQUARE_SIZE, mob.getPosZ(), 1e-9);
+    }
+
+    @Test
+    void longStepWithoutWallIsNotShortened(){
+        assertEquals(1, snackman.sweepToFirstWall(0, GameConfig.SQUARE_SIZE * 0.9, this.gameMap));
+        assertEquals(1, snackman.sweepToFirstWall(0.4, 0, this.gameMap));
+    }
+
+    @Test
+    void diagonalStepIntoWallSlidesAlongIt(){
+        GameMap corridorMap = corridorMap();
+        double touchingWall = 2 * GameConfig.SQUARE_SIZE - 0.3;
+        SnackMan mob = new SnackMan(corridorMap, 10, 0.3, touchingWall, GameConfig.SNACKMAN_GROUND_LEVEL, 2.5 * GameConfig.SQUARE_SIZE);
+
+        // forward and right at the same time, the right part of the long step would cross the wall
+        double delta = 0.55;
+        mob.move(true, false, false, true, delta, corridorMap);
+
+        assertEquals(touchingWall, mob.getPosX(), 1e-9);
+        // the forward part of the step is walked along the wall
+        assertEquals(2.5 * GameConfig.SQUARE_SIZE - GameConfig.SNACKMAN_SPEED * delta / Math.sqrt(2), mob.getPosZ(), 1e-9);
+    }
 }
@@ -12,11 +12,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.util.FileSystemUtils;
 
-import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Timer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -133,23 +131,31 @@ class ChickenTest {
     }
 
     @Test
-    void testStartNewTimer_ReplacesExistingTimer() throws NoSuchFieldException, IllegalAccessException {
-        Square square = new Square(MapObjectType.FLOOR, 0, 0);
+    void testStartNewTimer_SchedulesNextEggFromCurrentStep() {
+        Square square = gameMap.getSquareAtIndexXZ(1, 1);
         Chicken chicken = new Chicken(square, gameMap, "ChickenMovementSkript");
+        chicken.setWalking(false);
 
-        // Set up an initial timer
-        Timer initialTimer = new Timer();
-        Field timerField = Chicken.class.getDeclaredField("eggLayingTimer");
-        timerField.setAccessible(true);
-        timerField.set(chicken, initialTimer);
-
+        chicken.step(100000);
         chicken.startNewTimer();
 
-        Timer newTimer = (Timer) timerField.get(chicken);
+        // Random interval between 30 and 60 seconds after the current step
+        assertTrue(chicken.getNextEggTime() >= 130000);
+        assertTrue(chicken.getNextEggTime() < 160000);
+    }
 
-        // Assert that the new timer is not the same as the initial timer
-        Assertions.assertNotSame(initialTimer, newTimer);
-        Assertions.assertNotNull(newTimer);
+    @Test
+    void testStep_LaysEggWhenDue() {
+        Square square = gameMap.getSquareAtIndexXZ(1, 1);
+        Chicken chicken = spy(new Chicken(square, gameMap, "ChickenMovementSkript"));
+        chicken.setKcal(3000);
+
+        chicken.step(chicken.getNextEggTime() - 1);
+        verify(chicken, never()).layEgg();
+
+        chicken.step(chicken.getNextEggTime());
+        verify(chicken, times(1)).layEgg();
+        assertEquals(0, chicken.getKcal());
     }
 
     @Test
@@ -1,10 +1,16 @@
 package de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs;
 
 import de.hsrm.mi.swt.snackman.SnackmanApplication;
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.lobby.Lobby;
+import de.hsrm.mi.swt.snackman.entities.lobby.PlayerClient;
 import de.hsrm.mi.swt.snackman.entities.map.GameMap;
 import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhostDifficulty;
 import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Chicken;
+import de.hsrm.mi.swt.snackman.messaging.MessageLoop.LobbySimulation;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +20,6 @@ import org.springframework.util.FileSystemUtils;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 import static org.mockito.Mockito.*;
 
 /**
@@ -61,17 +66,34 @@ class GhostTest {
     }
 
     /**
-     * Tests that the Ghost correctly scares all mobs (all chicken and snackman) present in its current square.
+     * Tests that the lobby simulation lets the Ghost scare a chicken on its square, but not one far away.
      */
     @Test
-    void testScaresEverythingThatCouldBeEncountered() {
-        SnackMan mockSnackMan = mock(SnackMan.class);
+    void testScaresChickenEncounteredInLobbySimulation() {
+        Square[][] squares = new Square[5][5];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(MapObjectType.FLOOR, x, z);
+            }
+        }
+        GameMap gameMap = new GameMap(squares);
+        Lobby lobby = new Lobby("1", "lobby", new PlayerClient("ghost", "name"), gameMap, null, ScriptGhostDifficulty.EASY);
+        double center = 1.5 * GameConfig.SQUARE_SIZE;
+        lobby.addPlayerMob("ghost", new Ghost(gameMap.getSquareAtIndexXZ(1, 1), center, center, gameMap));
+
         Chicken mockChicken = mock(Chicken.class);
-        when(mockSquare.getMobs()).thenReturn(List.of(mockSnackMan, mockChicken));
+        when(mockChicken.getChickenPosX()).thenReturn(1);
+        when(mockChicken.getChickenPosZ()).thenReturn(1);
+        lobby.addChicken(mockChicken);
+        Chicken mockFarChicken = mock(Chicken.class);
+        when(mockFarChicken.getChickenPosX()).thenReturn(4);
+        when(mockFarChicken.getChickenPosZ()).thenReturn(4);
+        lobby.addChicken(mockFarChicken);
 
-        ghost.scaresEverythingThatCouldBeEncountered(mockSquare, mockGameMap);
+        new LobbySimulation().step(lobby, true);
 
         verify(mockChicken).isScaredFromGhost(true);
+        verify(mockFarChicken, never()).isScaredFromGhost(anyBoolean());
     }
 
     /**
@@ -86,8 +108,7 @@ class GhostTest {
 
         ghost.move(true, false, false, false, 0.1, mockGameMap);
 
-        verify(mockOldSquare).removeMob(ghost);
-        verify(mockNewSquare).addMob(ghost);
+        verify(mockOldSquare).moveMob(ghost, mockNewSquare);
     }
 
 }
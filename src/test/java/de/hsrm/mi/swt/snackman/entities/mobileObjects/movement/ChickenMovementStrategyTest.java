@@ -0,0 +1,104 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+
+class ChickenMovementStrategyTest {
+
+    private final ChickenMovementStrategy strategy = new ChickenMovementStrategy(2000);
+
+    /**
+     * @return 25 empty squares around the chicken and the looking direction
+     */
+    private List<String> squares(String direction) {
+        List<String> squares = new ArrayList<>(Collections.nCopies(25, "L"));
+        squares.add(direction);
+        return squares;
+    }
+
+    @Test
+    void testChickenMovesToOnlyEmptySquare() {
+        List<String> squares = List.of(
+                "W", "W", "W", "L", "W",
+                "SM", "L", "W", "L", "L",
+                "L", "L", "H", "W", "L",
+                "L", "L", "W", "L", "L",
+                "L", "W", "L", "W", "L", "0");
+
+        assertEquals(3, strategy.chooseNextSquare(squares));
+    }
+
+    @Test
+    void testChickenMovesToSnack() {
+        List<String> squares = squares("0");
+        squares.set(13, "S");
+
+        assertEquals(1, strategy.chooseNextSquare(squares));
+    }
+
+    @Test
+    void testChickenTakesSnackOppositeOfGhost() {
+        List<String> squares = squares("1");
+        squares.set(7, "G");
+        squares.set(17, "S");
+
+        assertEquals(2, strategy.chooseNextSquare(squares));
+    }
+
+    @Test
+    void testChickenWalksAwayFromGhost() {
+        List<String> squares = squares("1");
+        squares.set(13, "W");
+        squares.set(17, "G");
+
+        assertEquals(0, strategy.chooseNextSquare(squares));
+    }
+
+    @Test
+    void testChickenKeepsWalkingDirection() {
+        assertEquals(2, strategy.chooseNextSquare(squares("2")));
+    }
+
+    @Test
+    void testWalledInChickenTurnsBack() {
+        List<String> squares = squares("0");
+        squares.set(7, "W");
+        squares.set(13, "W");
+        squares.set(17, "W");
+        squares.set(11, "W");
+
+        assertEquals(2, strategy.chooseNextSquare(squares));
+    }
+
+    @Test
+    void testTalaChickenFollowsSnackMan() {
+        List<String> squares = squares("0");
+        squares.set(22, "SM");
+
+        assertEquals(2, new TalaChickenMovementStrategy().chooseNextSquare(squares));
+    }
+
+    @Test
+    void testTalaChickenRunsFromGhost() {
+        List<String> squares = squares("0");
+        squares.set(10, "G");
+
+        assertEquals(1, new TalaChickenMovementStrategy().chooseNextSquare(squares));
+    }
+
+    @Test
+    void testShippedScriptsRunNative() {
+        assertEquals(500, MovementStrategies.forSquares("SonicChickenMovementSkript").getWaitingTime());
+        assertInstanceOf(TalaChickenMovementStrategy.class, MovementStrategies.forSquares("TalaChickenMovementSkript"));
+        assertInstanceOf(GhostMovementStrategy.class, MovementStrategies.forSquares(GameConfig.GHOST_SCRIPT_EASY));
+        assertInstanceOf(SmartGhostMovementStrategy.class, MovementStrategies.forMaze(GameConfig.GHOST_SCRIPT_HARD));
+    }
+}
@@ -0,0 +1,53 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the Java implementation of GhostMovementSkript.py with the cases of the script tests
+ */
+class GhostMovementStrategyTest {
+
+    private final GhostMovementStrategy strategy = new GhostMovementStrategy();
+
+    @Test
+    void testGhostMovesToEmptySquare() {
+        int result = strategy.chooseNextSquare(List.of("L", "W", "L", "W", "L", "L", "L", "L", "0"));
+
+        assertTrue(List.of(2, 3).contains(result));
+    }
+
+    @Test
+    void testGhostMovesToSnackMan() {
+        assertEquals(1, strategy.chooseNextSquare(List.of("L", "L", "L", "M", "L", "L", "L", "L", "0")));
+    }
+
+    @Test
+    void testGhostMovesTowardsChicken() {
+        assertEquals(0, strategy.chooseNextSquare(List.of("L", "C", "L", "W", "L", "L", "W", "L", "0")));
+    }
+
+    @Test
+    void testGhostMovesIntoWalkingDirection() {
+        assertEquals(3, strategy.chooseNextSquare(List.of("L", "L", "L", "W", "L", "L", "W", "L", "3")));
+    }
+
+    @Test
+    void testGhostDoesNotTurnBack() {
+        for (int i = 0; i < 20; i++) {
+            int result = strategy.chooseNextSquare(List.of("L", "L", "L", "W", "L", "L", "W", "L", "1"));
+            assertTrue(List.of(0, 2).contains(result));
+        }
+    }
+
+    @Test
+    void testWalledInGhostFails() {
+        assertThrows(IllegalStateException.class,
+                () -> strategy.chooseNextSquare(List.of("L", "W", "L", "W", "L", "W", "L", "W", "0")));
+    }
+}
@@ -0,0 +1,57 @@
+package de.hsrm.mi.swt.snackman.entities.mobileObjects.movement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SmartGhostMovementStrategyTest {
+
+    private final SmartGhostMovementStrategy strategy = new SmartGhostMovementStrategy();
+
+    private List<List<String>> maze(String... rows) {
+        return Arrays.stream(rows).map(row -> Arrays.asList(row.split(""))).toList();
+    }
+
+    @Test
+    void testGhostWalksTowardsSnackMan() {
+        assertEquals(0, strategy.chooseNextSquare(maze("L", "M", "L", "G", "L")));
+    }
+
+    @Test
+    void testGhostWalksAroundWalls() {
+        List<List<String>> maze = maze(
+                "WWWWW",
+                "WGWMW",
+                "WLWLW",
+                "WLLLW",
+                "WWWWW");
+
+        assertEquals(2, strategy.chooseNextSquare(maze));
+    }
+
+    @Test
+    void testGhostTakesShortestPath() {
+        List<List<String>> maze = maze(
+                "WWWWWWW",
+                "WLLLLLW",
+                "WLWWWLW",
+                "WGLLLMW",
+                "WWWWWWW");
+
+        assertEquals(1, strategy.chooseNextSquare(maze));
+    }
+
+    @Test
+    void testUnreachableSnackManFails() {
+        List<List<String>> maze = maze(
+                "WWWWW",
+                "WGWMW",
+                "WWWWW");
+
+        assertThrows(IllegalStateException.class, () -> strategy.chooseNextSquare(maze));
+    }
+}
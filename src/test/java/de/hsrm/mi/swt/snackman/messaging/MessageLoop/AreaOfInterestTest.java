@@ -0,0 +1,76 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Mob;
+
+class AreaOfInterestTest {
+
+    private static final int FAR_AWAY = GameConfig.AOI_RADIUS + 10;
+
+    private AreaOfInterest areaOfInterest;
+    private Map<String, Mob> players;
+
+    @BeforeEach
+    void setUp() {
+        areaOfInterest = new AreaOfInterest();
+        GameMap gameMap = new GameMap(new Square[][]{{new Square(0, 0)}});
+        players = new TreeMap<>();
+        players.put("near", new Ghost(new Square(0, 0), 1, 1, gameMap));
+        players.put("far", new Ghost(new Square(0, 0), FAR_AWAY * GameConfig.SQUARE_SIZE + 1, 1, gameMap));
+    }
+
+    private EnvironmentChange changeAt(String key, int indexX, int indexZ) {
+        return new EnvironmentChange(key, indexX, indexZ, () -> new Message<>(EventEnum.SquareUpdate, key));
+    }
+
+    @Test
+    void testChangesInAreaAreSentImmediately() {
+        Map<String, List<Message>> messages = areaOfInterest.distribute(players, List.of(changeAt("a", 0, 1)));
+
+        assertEquals(1, messages.get("near").size());
+        assertEquals("a", messages.get("near").getFirst().message());
+        assertNull(messages.get("far"));
+    }
+
+    @Test
+    void testChangesOutsideOfAreaAreThrottled() {
+        areaOfInterest.distribute(players, List.of(changeAt("a", 0, 1)));
+        for (int i = 2; i < GameConfig.AOI_FAR_UPDATE_INTERVAL; i++) {
+            assertFalse(areaOfInterest.distribute(players, List.of()).containsKey("far"));
+        }
+
+        Map<String, List<Message>> messages = areaOfInterest.distribute(players, List.of(changeAt("a", 0, 1)));
+
+        assertEquals(1, messages.get("far").size());
+        assertEquals(1, messages.get("near").size());
+    }
+
+    @Test
+    void testChangeMovingIntoAreaIsNotSentTwice() {
+        areaOfInterest.distribute(players, List.of(changeAt("a", FAR_AWAY, 0)));
+        Map<String, List<Message>> messages = areaOfInterest.distribute(players, List.of(changeAt("a", 0, 0)));
+        assertEquals(1, messages.get("near").size());
+
+        for (int i = 3; i < GameConfig.AOI_FAR_UPDATE_INTERVAL; i++) {
+            areaOfInterest.distribute(players, List.of());
+        }
+        messages = areaOfInterest.distribute(players, List.of());
+
+        assertNull(messages.get("near"));
+        assertEquals(1, messages.get("far").size());
+    }
+}
@@ -0,0 +1,59 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.joml.Quaterniond;
+import org.joml.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Direction;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.Chicken.Thickness;
+
+class BinaryUpdateEncoderTest {
+
+    @Test
+    void testEncodeChickenUpdate() {
+        List<Message> messages = List.of(new Message<>(EventEnum.ChickenUpdate,
+                new ChickenUpdateMessage(42, 3, 7, Thickness.MEDIUM, Direction.ONE_EAST, true)));
+
+        ByteBuffer frame = ByteBuffer.wrap(BinaryUpdateEncoder.encode(messages)).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(BinaryUpdateEncoder.VERSION, frame.get());
+        assertEquals(1, frame.getShort());
+        assertEquals(EventEnum.ChickenUpdate.ordinal(), frame.get());
+        assertEquals(42, frame.getLong());
+        assertEquals(3, frame.getInt());
+        assertEquals(7, frame.getInt());
+        assertEquals(Thickness.MEDIUM.ordinal(), frame.get());
+        assertEquals(Direction.ONE_EAST.ordinal(), frame.get());
+        assertEquals(1, frame.get());
+        assertEquals(0, frame.remaining());
+    }
+
+    @Test
+    void testEncodeGhostUpdate() {
+        List<Message> messages = List.of(new Message<>(EventEnum.GhostUpdate,
+                new GhostUpdateMessage(new Vector3d(1.5, 2, 3.25), new Quaterniond(), 0.3, 7, "player", 12)));
+
+        ByteBuffer frame = ByteBuffer.wrap(BinaryUpdateEncoder.encode(messages)).order(ByteOrder.LITTLE_ENDIAN);
+
+        frame.position(3);
+        assertEquals(EventEnum.GhostUpdate.ordinal(), frame.get());
+        assertEquals(1.5f, frame.getFloat());
+        assertEquals(2f, frame.getFloat());
+        assertEquals(3.25f, frame.getFloat());
+        frame.position(frame.position() + 4 * Float.BYTES);
+        assertEquals(0.3f, frame.getFloat());
+        assertEquals(7f, frame.getFloat());
+        byte[] playerId = new byte[frame.getShort()];
+        frame.get(playerId);
+        assertEquals("player", new String(playerId, StandardCharsets.UTF_8));
+        assertEquals(12, frame.getLong());
+        assertEquals(0, frame.remaining());
+    }
+}
@@ -0,0 +1,65 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+
+class ChangeSetTest {
+
+    @Test
+    void testSameEntityIsOnlyDrainedOnce() {
+        ChangeSet<Square> changeSet = new ChangeSet<>(Square::getId);
+        Square square = new Square(1, 1);
+        Square otherSquare = new Square(1, 2);
+
+        changeSet.add(square);
+        changeSet.add(square);
+        changeSet.add(otherSquare);
+
+        List<Square> drained = changeSet.drain();
+        assertEquals(2, drained.size());
+        assertTrue(drained.contains(square));
+        assertTrue(drained.contains(otherSquare));
+        assertTrue(changeSet.isEmpty());
+        assertTrue(changeSet.drain().isEmpty());
+    }
+
+    @Test
+    void testNoChangeIsLostWhileDraining() throws InterruptedException {
+        ChangeSet<Square> changeSet = new ChangeSet<>(Square::getId);
+        List<Square> squares = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            squares.add(new Square(i, 0));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            squares.forEach(changeSet::add);
+        });
+        producer.start();
+
+        Set<Long> received = new HashSet<>();
+        start.countDown();
+        while (producer.isAlive()) {
+            changeSet.drain().forEach(square -> received.add(square.getId()));
+        }
+        producer.join();
+        changeSet.drain().forEach(square -> received.add(square.getId()));
+
+        assertEquals(squares.size(), received.size());
+    }
+}
@@ -0,0 +1,79 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LobbyAiExecutorTest {
+
+    private ExecutorService sharedExecutor;
+
+    @BeforeEach
+    void setUp() {
+        sharedExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sharedExecutor.shutdownNow();
+    }
+
+    @Test
+    void testTaskRunsOnSharedExecutor() throws InterruptedException {
+        LobbyAiExecutor executor = new LobbyAiExecutor(sharedExecutor);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        executor.execute(ran::countDown);
+
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancelDropsQueuedTasksOfLobby() throws InterruptedException {
+        LobbyAiExecutor executor = new LobbyAiExecutor(sharedExecutor);
+        LobbyAiExecutor otherLobby = new LobbyAiExecutor(sharedExecutor);
+        CountDownLatch blocking = new CountDownLatch(1);
+        AtomicBoolean cancelledTaskRan = new AtomicBoolean(false);
+        CountDownLatch otherLobbyRan = new CountDownLatch(1);
+
+        // keeps the single shared thread busy, so the next task stays queued
+        executor.execute(() -> {
+            try {
+                blocking.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> cancelledTaskRan.set(true));
+        otherLobby.execute(otherLobbyRan::countDown);
+
+        executor.cancel();
+        blocking.countDown();
+
+        assertTrue(otherLobbyRan.await(1, TimeUnit.SECONDS));
+        assertFalse(cancelledTaskRan.get());
+        assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    void testCancelledExecutorRejectsTasks() {
+        LobbyAiExecutor executor = new LobbyAiExecutor(sharedExecutor);
+
+        executor.cancel();
+
+        assertTrue(executor.isCancelled());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    }
+}
@@ -0,0 +1,115 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+import de.hsrm.mi.swt.snackman.controller.PlayerMovement.PlayerInputDTO;
+import de.hsrm.mi.swt.snackman.entities.lobby.Lobby;
+import de.hsrm.mi.swt.snackman.entities.lobby.PlayerClient;
+import de.hsrm.mi.swt.snackman.entities.map.GameMap;
+import de.hsrm.mi.swt.snackman.entities.map.Square;
+import de.hsrm.mi.swt.snackman.entities.mapObject.MapObjectType;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.Ghost;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.ScriptGhostDifficulty;
+import de.hsrm.mi.swt.snackman.entities.mobileObjects.eatingMobs.SnackMan;
+
+class LobbySimulationTest {
+
+    private static final String PLAYER = "player";
+
+    private LobbySimulation simulation;
+    private Lobby lobby;
+    private SnackMan snackMan;
+
+    @BeforeEach
+    void setUp() {
+        Square[][] squares = new Square[9][9];
+        for (int x = 0; x < squares.length; x++) {
+            for (int z = 0; z < squares[0].length; z++) {
+                squares[x][z] = new Square(MapObjectType.FLOOR, x, z);
+            }
+        }
+        GameMap gameMap = new GameMap(squares);
+        lobby = new Lobby("1", "lobby", new PlayerClient(PLAYER, "name"), gameMap, null, ScriptGhostDifficulty.EASY);
+        double center = 4.5 * GameConfig.SQUARE_SIZE;
+        snackMan = new SnackMan(gameMap, GameConfig.SNACKMAN_SPEED, 0.3, center, GameConfig.SNACKMAN_GROUND_LEVEL, center);
+        lobby.addPlayerMob(PLAYER, snackMan);
+        simulation = new LobbySimulation();
+    }
+
+    private PlayerInputDTO forward(long seq) {
+        return new PlayerInputDTO(seq, true, false, false, false, false, false, 0, 0, 0, 1, 1, false);
+    }
+
+    @Test
+    void testInputIsAppliedWithFixedStepAndAcknowledged() {
+        double startZ = snackMan.getPosZ();
+        simulation.queueInput(PLAYER, forward(3));
+
+        simulation.step(lobby, true);
+
+        // the client delta of 1 second is ignored, the step is always the same
+        double expected = GameConfig.SNACKMAN_SPEED * GameConfig.SIMULATION_STEP / 1000.0;
+        assertEquals(expected, startZ - snackMan.getPosZ(), 1e-9);
+        assertEquals(3, lobby.getLastProcessedInput(PLAYER));
+    }
+
+    @Test
+    void testInputIsHeldOnlyForSomeSteps() {
+        simulation.queueInput(PLAYER, forward(1));
+        simulation.step(lobby, true);
+        for (int i = 0; i < GameConfig.INPUT_HOLD_STEPS; i++) {
+            double before = snackMan.getPosZ();
+            simulation.step(lobby, true);
+            assertTrue(snackMan.getPosZ() < before, "Held input should still move the snackman");
+        }
+
+        double before = snackMan.getPosZ();
+        simulation.step(lobby, true);
+        assertEquals(before, snackMan.getPosZ(), 1e-9);
+    }
+
+    @Test
+    void testAdvanceRunsStepsForPassedTime() {
+        assertEquals(1, simulation.advance(lobby, 1000));
+        assertEquals(0, simulation.advance(lobby, 1000 + GameConfig.SIMULATION_STEP - 1));
+        assertEquals(1, simulation.advance(lobby, 1000 + GameConfig.SIMULATION_STEP));
+        assertEquals(GameConfig.MAX_SIMULATION_STEPS_PER_TICK, simulation.advance(lobby, 1_000_000));
+        assertEquals((2 + GameConfig.MAX_SIMULATION_STEPS_PER_TICK) * GameConfig.SIMULATION_STEP, simulation.getSimulationTime());
+    }
+
+    @Test
+    void testGhostInNeighbouringSquareScaresSnackMan() {
+        GameMap gameMap = lobby.getGameMap();
+        // a snackman that is not invincible after its creation
+        snackMan = new SnackMan(gameMap, GameConfig.SNACKMAN_SPEED, 0.3);
+        snackMan.setKcal(3 * GameConfig.GHOST_DAMAGE);
+        snackMan.setPosX(4.5 * GameConfig.SQUARE_SIZE);
+        // both stand close to the border between the squares 3 and 4
+        snackMan.setPosZ(4.1 * GameConfig.SQUARE_SIZE);
+        lobby.addPlayerMob(PLAYER, snackMan);
+        Ghost ghost = new Ghost(gameMap.getSquareAtIndexXZ(4, 3), snackMan.getPosX(), 3.9 * GameConfig.SQUARE_SIZE, gameMap);
+        lobby.addPlayerMob("ghost", ghost);
+
+        simulation.step(lobby, true);
+
+        assertTrue(snackMan.isScared());
+        assertEquals(2 * GameConfig.GHOST_DAMAGE, snackMan.getKcal());
+    }
+
+    @Test
+    void testGhostFarAwayDoesNotScareSnackMan() {
+        GameMap gameMap = lobby.getGameMap();
+        Ghost ghost = new Ghost(gameMap.getSquareAtIndexXZ(4, 3), snackMan.getPosX(), 3.5 * GameConfig.SQUARE_SIZE, gameMap);
+        lobby.addPlayerMob("ghost", ghost);
+
+        simulation.step(lobby, true);
+
+        assertFalse(snackMan.isScared());
+    }
+}
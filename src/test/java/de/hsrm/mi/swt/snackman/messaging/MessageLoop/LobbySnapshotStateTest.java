@@ -0,0 +1,60 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+
+class LobbySnapshotStateTest {
+
+    private LobbySnapshotState snapshotState;
+
+    @BeforeEach
+    void setUp() {
+        snapshotState = new LobbySnapshotState();
+    }
+
+    private MobSnapshot snapshotAt(double posX, int calories) {
+        return new MobSnapshot(posX, 2, 0, 0, 0, 0, 1, calories, 5, false, false, false);
+    }
+
+    @Test
+    void testFirstTickIsKeyframe() {
+        assertTrue(snapshotState.nextTick());
+        assertFalse(snapshotState.nextTick());
+    }
+
+    @Test
+    void testUnchangedMobIsNotSentAgain() {
+        snapshotState.nextTick();
+        assertTrue(snapshotState.shouldSend("player", snapshotAt(1, 100), true));
+
+        snapshotState.nextTick();
+        assertFalse(snapshotState.shouldSend("player", snapshotAt(1, 100), false));
+        assertFalse(snapshotState.shouldSend("player", snapshotAt(1 + GameConfig.SNAPSHOT_POSITION_EPSILON / 2, 100), false));
+    }
+
+    @Test
+    void testChangedMobIsSent() {
+        snapshotState.shouldSend("player", snapshotAt(1, 100), true);
+
+        assertTrue(snapshotState.shouldSend("player", snapshotAt(1.5, 100), false));
+        assertTrue(snapshotState.shouldSend("player", snapshotAt(1.5, 200), false));
+        assertTrue(snapshotState.shouldSend("otherPlayer", snapshotAt(1.5, 200), false));
+    }
+
+    @Test
+    void testKeyframeIsSentPeriodically() {
+        assertTrue(snapshotState.nextTick());
+        for (int keyframe = 0; keyframe < 3; keyframe++) {
+            for (int i = 1; i < GameConfig.SNAPSHOT_KEYFRAME_INTERVAL; i++) {
+                assertFalse(snapshotState.nextTick());
+            }
+            assertTrue(snapshotState.nextTick());
+        }
+        assertTrue(snapshotState.shouldSend("player", snapshotAt(1, 100), true));
+    }
+}
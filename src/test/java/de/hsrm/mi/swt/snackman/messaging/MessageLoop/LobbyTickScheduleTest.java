@@ -0,0 +1,56 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LobbyTickScheduleTest {
+
+    private static final long NOW = 100_000;
+
+    private LobbyTickSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new LobbyTickSchedule(4, 10, 5000);
+    }
+
+    @Test
+    void testActiveLobbyTicksEveryTimeWithLessEnvironmentUpdates() {
+        for (int tick = 0; tick < 12; tick++) {
+            assertTrue(schedule.nextTick(NOW, NOW));
+            assertFalse(schedule.isIdle());
+            if (tick % 4 == 0) {
+                assertTrue(schedule.isEnvironmentTick(), "Tick " + tick + " should update the environment");
+            } else {
+                assertFalse(schedule.isEnvironmentTick(), "Tick " + tick + " should not update the environment");
+            }
+        }
+    }
+
+    @Test
+    void testIdleLobbyTicksRarely() {
+        long lastInput = NOW - 6000;
+        int dueTicks = 0;
+        for (int tick = 0; tick < 30; tick++) {
+            if (schedule.nextTick(lastInput, NOW)) {
+                dueTicks++;
+                assertTrue(schedule.isEnvironmentTick());
+            }
+            assertTrue(schedule.isIdle());
+        }
+        assertEquals(3, dueTicks, "An idle lobby should only tick every 10th time, but ticked " + dueTicks + " times");
+    }
+
+    @Test
+    void testInputWakesUpIdleLobbyImmediately() {
+        schedule.nextTick(NOW - 6000, NOW);
+        assertFalse(schedule.nextTick(NOW - 6000, NOW));
+
+        assertTrue(schedule.nextTick(NOW, NOW));
+        assertFalse(schedule.isIdle());
+    }
+}
@@ -0,0 +1,36 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.messaging.OutboundBackpressureDecoratorFactory;
+
+class LobbyUpdatePublisherTest {
+
+    @Test
+    void testOnlyPlayerMobUpdatesAreDroppable() {
+        assertTrue(LobbyUpdatePublisher.isDroppable(List.of(new Message<>(EventEnum.SnackManUpdate, "snackman"),
+                new Message<>(EventEnum.GhostUpdate, "ghost"))));
+
+        assertFalse(LobbyUpdatePublisher.isDroppable(List.of(new Message<>(EventEnum.ChickenUpdate, "chicken"))));
+        assertFalse(LobbyUpdatePublisher.isDroppable(List.of(new Message<>(EventEnum.ScriptGhostUpdate, "ghost"))));
+        assertFalse(LobbyUpdatePublisher.isDroppable(List.of(new Message<>(EventEnum.SquareUpdate, "square"))));
+        assertFalse(LobbyUpdatePublisher.isDroppable(List.of(new Message<>(EventEnum.SnackManUpdate, "snackman"),
+                new Message<>(EventEnum.GameEnd, "gameEnd"))));
+    }
+
+    @Test
+    void testOnlyKeyframesAreSnapshots() {
+        List<Message> mobs = List.of(new Message<>(EventEnum.SnackManUpdate, "snackman"));
+        assertEquals(OutboundBackpressureDecoratorFactory.snapshot(), LobbyUpdatePublisher.headersOf(mobs, true));
+        // deltas only contain the changed mobs and must not replace each other
+        assertEquals(OutboundBackpressureDecoratorFactory.droppable(), LobbyUpdatePublisher.headersOf(mobs, false));
+        assertEquals(Map.of(), LobbyUpdatePublisher.headersOf(List.of(new Message<>(EventEnum.GameEnd, "gameEnd")), true));
+    }
+}
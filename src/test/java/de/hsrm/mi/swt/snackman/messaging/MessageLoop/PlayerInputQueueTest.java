@@ -0,0 +1,62 @@
+package de.hsrm.mi.swt.snackman.messaging.MessageLoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.hsrm.mi.swt.snackman.controller.PlayerMovement.PlayerInputDTO;
+
+class PlayerInputQueueTest {
+
+    private PlayerInputQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new PlayerInputQueue();
+    }
+
+    private PlayerInputDTO input(long seq, boolean forward, boolean jump) {
+        return new PlayerInputDTO(seq, forward, false, false, false, jump, false, 0, 0, 0, 1, 0.033, false);
+    }
+
+    @Test
+    void testEmptyQueueDrainsNothing() {
+        assertNull(queue.drain());
+    }
+
+    @Test
+    void testNewestFrameWinsAndJumpIsKept() {
+        queue.offer(List.of(input(2, false, false), input(1, true, true)));
+
+        PlayerInputDTO drained = queue.drain();
+        assertEquals(2, drained.seq());
+        assertFalse(drained.forward());
+        assertTrue(drained.jump());
+        assertNull(queue.drain());
+    }
+
+    @Test
+    void testFramesAlreadyQueuedAreIgnored() {
+        queue.offer(List.of(input(1, true, false), input(2, true, false)));
+        queue.drain();
+
+        queue.offer(List.of(input(2, false, true)));
+        assertNull(queue.drain());
+    }
+
+    @Test
+    void testFramesWithoutSequenceAreAlwaysQueued() {
+        queue.offer(input(5, false, false));
+        queue.drain();
+
+        queue.offer(input(0, true, false));
+        PlayerInputDTO drained = queue.drain();
+        assertTrue(drained.forward());
+    }
+}
@@ -0,0 +1,128 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class OutboundBackpressureSessionDecoratorTest {
+
+    private static final String UPDATE = "/topic/lobbies/1/update";
+
+    private ExecutorService writer;
+    private WebSocketSession session;
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+    private final CountDownLatch gameEndSent = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writer = Executors.newSingleThreadExecutor();
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session");
+        // the client is slow: the first frame blocks until it is released
+        doAnswer(invocation -> {
+            String body = body(invocation.getArgument(0));
+            sent.add(body);
+            if (sent.size() == 1) {
+                firstSendStarted.countDown();
+                releaseSend.await();
+            }
+            if (body.equals("gameEnd")) {
+                gameEndSent.countDown();
+            }
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSend.countDown();
+        writer.shutdownNow();
+    }
+
+    private static TextMessage frame(String destination, boolean keyframe, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\n"
+                + (keyframe ? OutboundBackpressureDecoratorFactory.DROPPABLE_HEADER + ":true\n"
+                + OutboundBackpressureDecoratorFactory.SNAPSHOT_HEADER + ":true\n" : "")
+                + "content-type:application/json\n\n" + body + "\0");
+    }
+
+    private static String body(TextMessage message) {
+        String payload = message.getPayload();
+        return payload.substring(payload.indexOf("\n\n") + 2, payload.length() - 1);
+    }
+
+    @Test
+    void testBlockedSessionGetsNewestKeyframesAndGameEnd() throws Exception {
+        OutboundBackpressureSessionDecorator decorator = new OutboundBackpressureSessionDecorator(session, 2, 16, writer);
+
+        decorator.sendMessage(frame(UPDATE, true, "update0"));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        // the sender is not blocked by the slow client
+        for (int i = 1; i <= 10; i++) {
+            decorator.sendMessage(frame(UPDATE, true, "update" + i));
+        }
+        decorator.sendMessage(frame(UPDATE, false, "gameEnd"));
+        assertEquals(3, decorator.getQueue().getPending());
+
+        releaseSend.countDown();
+        assertTrue(gameEndSent.await(5, TimeUnit.SECONDS));
+        // every keyframe offered to the lagging queue removes the queued ones
+        assertEquals(List.of("update0", "update9", "update10", "gameEnd"), sent);
+        assertEquals(8, decorator.getQueue().getDropped());
+    }
+
+    @Test
+    void testOverflowingSessionIsClosed() throws Exception {
+        OutboundBackpressureSessionDecorator decorator = new OutboundBackpressureSessionDecorator(session, 2, 4, writer);
+
+        decorator.sendMessage(frame(UPDATE, false, "square0"));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 5; i++) {
+            decorator.sendMessage(frame(UPDATE, false, "square" + i));
+        }
+
+        assertTrue(decorator.getQueue().isOverflowed());
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void testReadHeadersOfFrames() {
+        String headers = OutboundBackpressureSessionDecorator.readHeaders(frame(UPDATE, true, "update"));
+        assertEquals(UPDATE, OutboundBackpressureSessionDecorator.readHeader(headers, "destination"));
+        assertEquals("true", OutboundBackpressureSessionDecorator.readHeader(headers,
+                OutboundBackpressureDecoratorFactory.DROPPABLE_HEADER));
+        assertEquals("true", OutboundBackpressureSessionDecorator.readHeader(headers,
+                OutboundBackpressureDecoratorFactory.SNAPSHOT_HEADER));
+
+        byte[] binary = ("MESSAGE\ndestination:" + UPDATE + "/binary\n\n\n\n\0").getBytes(StandardCharsets.UTF_8);
+        headers = OutboundBackpressureSessionDecorator.readHeaders(new BinaryMessage(binary));
+        assertEquals(UPDATE + "/binary", OutboundBackpressureSessionDecorator.readHeader(headers, "destination"));
+        assertNull(OutboundBackpressureSessionDecorator.readHeader(headers,
+                OutboundBackpressureDecoratorFactory.DROPPABLE_HEADER));
+
+        assertNull(OutboundBackpressureSessionDecorator.readHeaders(new TextMessage("CONNECTED\nversion:1.2\n\n\0")));
+    }
+}
@@ -0,0 +1,40 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+class PlayerConnectInterceptorTest {
+
+    private final PlayerConnectInterceptor interceptor = new PlayerConnectInterceptor();
+
+    private StompHeaderAccessor send(StompCommand command, String playerId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (playerId != null) {
+            accessor.setNativeHeader(PlayerConnectInterceptor.PLAYER_ID_HEADER, playerId);
+        }
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        interceptor.preSend(message, null);
+        return accessor;
+    }
+
+    @Test
+    void testConnectBindsSessionToPlayer() {
+        StompHeaderAccessor accessor = send(StompCommand.CONNECT, "player");
+
+        assertEquals(new PlayerPrincipal("player"), accessor.getUser());
+        assertEquals("player", accessor.getUser().getName());
+    }
+
+    @Test
+    void testOtherFramesDoNotChangePlayer() {
+        assertNull(send(StompCommand.SUBSCRIBE, "otherPlayer").getUser());
+        assertNull(send(StompCommand.CONNECT, null).getUser());
+    }
+}
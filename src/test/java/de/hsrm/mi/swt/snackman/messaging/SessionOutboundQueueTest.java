@@ -0,0 +1,157 @@
+package de.hsrm.mi.swt.snackman.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+class SessionOutboundQueueTest {
+
+    private static final String UPDATE = "/topic/lobbies/1/update";
+    private static final String LOBBIES = "/topic/lobbies";
+
+    private SessionOutboundQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new SessionOutboundQueue("session", 2, 5);
+    }
+
+    @Test
+    void testEveryMessageIsQueuedWhileNotLagging() {
+        TextMessage first = new TextMessage("first");
+        TextMessage second = new TextMessage("second");
+
+        assertTrue(queue.offer(first, UPDATE, true, true));
+        assertTrue(queue.offer(second, UPDATE, true, true));
+        assertEquals(2, queue.getPending());
+
+        assertSame(first, queue.poll());
+        assertSame(second, queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.getPending());
+        assertEquals(2, queue.getDelivered());
+    }
+
+    @Test
+    void testSnapshotRemovesSupersededUpdatesOfLaggingSession() {
+        TextMessage keyframe = new TextMessage("keyframe");
+        TextMessage delta = new TextMessage("delta");
+        TextMessage gameEnd = new TextMessage("gameEnd");
+        TextMessage newKeyframe = new TextMessage("new keyframe");
+        queue.offer(keyframe, UPDATE, true, true);
+        queue.offer(delta, UPDATE, true, false);
+        queue.offer(gameEnd, UPDATE, false, false);
+        assertTrue(queue.isLagging());
+
+        assertTrue(queue.offer(newKeyframe, UPDATE, true, true));
+        assertEquals(2, queue.getPending());
+        assertEquals(2, queue.getDropped());
+
+        assertSame(gameEnd, queue.poll());
+        assertSame(newKeyframe, queue.poll());
+        assertFalse(queue.isLagging());
+    }
+
+    @Test
+    void testDeltasAreNeverReplaced() {
+        // a newer delta may lack mobs of an older one, so all of them are sent
+        TextMessage first = new TextMessage("first");
+        TextMessage second = new TextMessage("second");
+        TextMessage third = new TextMessage("third");
+        queue.offer(first, UPDATE, true, false);
+        queue.offer(second, UPDATE, true, false);
+        assertTrue(queue.isLagging());
+
+        assertTrue(queue.offer(third, UPDATE, true, false));
+        assertEquals(3, queue.getPending());
+        assertEquals(0, queue.getDropped());
+        assertSame(first, queue.poll());
+        assertSame(second, queue.poll());
+        assertSame(third, queue.poll());
+    }
+
+    @Test
+    void testGuaranteedMessagesAreNeverDropped() {
+        queue.offer(new TextMessage("update"), UPDATE, true, true);
+        queue.offer(new TextMessage("update"), UPDATE, true, true);
+
+        TextMessage gameEnd = new TextMessage("game end");
+        assertTrue(queue.offer(gameEnd, UPDATE, false, false));
+        assertEquals(3, queue.getPending());
+        assertEquals(3, queue.getMaxPending());
+        assertEquals(0, queue.getDropped());
+    }
+
+    @Test
+    void testUpdatesOfOtherDestinationsAreNotRemoved() {
+        TextMessage update = new TextMessage("update");
+        TextMessage gameEnd = new TextMessage("gameEnd");
+        queue.offer(update, UPDATE, true, true);
+        queue.offer(gameEnd, UPDATE, false, false);
+
+        TextMessage lobbies = new TextMessage("lobbies");
+        assertTrue(queue.offer(lobbies, LOBBIES, true, true));
+        assertSame(update, queue.poll());
+        assertSame(gameEnd, queue.poll());
+        assertSame(lobbies, queue.poll());
+    }
+
+    @Test
+    void testOverflowingQueueIsClosed() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(new TextMessage("square" + i), UPDATE, false, false));
+        }
+        assertFalse(queue.isOverflowed());
+
+        assertFalse(queue.offer(new TextMessage("square5"), UPDATE, false, false));
+        assertTrue(queue.isOverflowed());
+        assertEquals(0, queue.getPending());
+        assertFalse(queue.offer(new TextMessage("gameEnd"), UPDATE, false, false));
+    }
+
+    @Test
+    void testSnapshotMakesRoomBeforeOverflow() {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(new TextMessage("delta" + i), UPDATE, true, false);
+        }
+
+        assertTrue(queue.offer(new TextMessage("keyframe"), UPDATE, true, true));
+        assertFalse(queue.isOverflowed());
+        assertEquals(1, queue.getPending());
+        assertEquals(5, queue.getDropped());
+    }
+
+    @Test
+    void testOnlyOneWriterDrainsTheQueue() {
+        assertFalse(queue.claimWriter());
+        queue.offer(new TextMessage("first"), UPDATE, true, true);
+        assertTrue(queue.claimWriter());
+
+        queue.offer(new TextMessage("second"), UPDATE, true, true);
+        assertFalse(queue.claimWriter());
+
+        queue.poll();
+        queue.poll();
+        // the empty queue ends the writing
+        assertNull(queue.poll());
+        queue.offer(new TextMessage("third"), UPDATE, true, true);
+        assertTrue(queue.claimWriter());
+    }
+
+    @Test
+    void testClosedQueueDiscardsMessages() {
+        queue.offer(new TextMessage("update"), UPDATE, true, true);
+        queue.close();
+
+        assertFalse(queue.offer(new TextMessage("gameEnd"), UPDATE, false, false));
+        assertEquals(0, queue.getPending());
+        assertFalse(queue.claimWriter());
+        assertFalse(queue.isOverflowed());
+    }
+}
@@ -98,4 +98,14 @@ class ReadMazeServiceTest {
         // Delete file after testing
         mazeFile.delete();
     }
+
+    @Test
+    void testGeneratedMazeIsWrittenAndReadBack() {
+        char[][] maze = readMazeService.generateMaze(7);
+        assertArrayEquals(maze, readMazeService.generateMaze(7), "The same seed should create the same maze");
+
+        readMazeService.writeMazeToFile(maze, "./extensions/map/test_generated_maze.txt");
+
+        assertArrayEquals(maze, readMazeService.readMazeFromFile("./extensions/map/test_generated_maze.txt"));
+    }
 }
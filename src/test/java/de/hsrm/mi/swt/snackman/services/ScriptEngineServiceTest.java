@@ -0,0 +1,88 @@
+package de.hsrm.mi.swt.snackman.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.python.core.PyException;
+import org.python.core.PyList;
+import org.python.core.PyObject;
+import org.springframework.util.FileSystemUtils;
+
+import de.hsrm.mi.swt.snackman.SnackmanApplication;
+import de.hsrm.mi.swt.snackman.configuration.GameConfig;
+
+class ScriptEngineServiceTest {
+
+    private static final Path workFolder = Paths.get("./extensions").toAbsolutePath();
+
+    @BeforeAll
+    static void fileSetUp() {
+        try {
+            tearDownAfter();
+        } catch (Exception e) {
+            System.out.println("No file to delete");
+        }
+        SnackmanApplication.checkAndCopyResources();
+    }
+
+    @AfterAll
+    static void tearDownAfter() throws IOException {
+        if (Files.exists(workFolder)) {
+            FileSystemUtils.deleteRecursively(workFolder.toFile());
+        }
+    }
+
+    @Test
+    void testInstanceIsShared() {
+        assertSame(ScriptEngineService.getInstance(), ScriptEngineService.getInstance());
+    }
+
+    @Test
+    void testPreloadedScriptCanBeCalled() {
+        ScriptEngineService scriptEngineService = ScriptEngineService.getInstance();
+        scriptEngineService.preload(GameConfig.DEFAULT_CHICKEN_SCRIPTS[0]);
+
+        int waitingTime = scriptEngineService.callForInt(GameConfig.DEFAULT_CHICKEN_SCRIPTS[0], "getWaitingTime");
+
+        // the script is imported only once
+        assertEquals(waitingTime, scriptEngineService.callForInt(GameConfig.DEFAULT_CHICKEN_SCRIPTS[0], "getWaitingTime"));
+    }
+
+    @Test
+    void testFunctionIsResolvedOnce() {
+        ScriptEngineService scriptEngineService = ScriptEngineService.getInstance();
+
+        PyObject function = scriptEngineService.getFunction(GameConfig.GHOST_SCRIPT_EASY, "choose_next_square");
+
+        assertSame(function, scriptEngineService.getFunction(GameConfig.GHOST_SCRIPT_EASY, "choose_next_square"));
+    }
+
+    @Test
+    void testCallForIntWithPrebuiltArguments() {
+        ScriptEngineService scriptEngineService = ScriptEngineService.getInstance();
+        PyList squares = scriptEngineService.toPyStringList(List.of("L", "L", "L", "M", "L", "L", "L", "L", "0"));
+
+        assertEquals(1, scriptEngineService.callForInt(GameConfig.GHOST_SCRIPT_EASY, "choose_next_square", squares));
+    }
+
+    @Test
+    void testFailingImportDoesNotBreakTheEngine() {
+        ScriptEngineService scriptEngineService = ScriptEngineService.getInstance();
+        // a missing script is only logged while preloading
+        scriptEngineService.preload("NotExistingSkript");
+
+        assertThrows(PyException.class, () -> scriptEngineService.getFunction("NotExistingSkript", "choose_next_square"));
+        assertNotNull(scriptEngineService.getFunction(GameConfig.GHOST_SCRIPT_EASY, "choose_next_square"));
+    }
+}